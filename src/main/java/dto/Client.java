@@ -1,14 +1,45 @@
 package dto;
 
 public final class Client {
+    /** Номер слова имени «Фамилия Имя Отчество»: фамилия. */
+    public static final int LAST_NAME_TOKEN = 0;
+    /** Номер слова имени: имя. */
+    public static final int FIRST_NAME_TOKEN = 1;
+    /** Номер слова имени: отчество; пустое, если имя из двух слов. */
+    public static final int PATRONYMIC_TOKEN = 2;
+
+    /** Отметка «пробела нет»: слово продолжается до конца имени. */
+    private static final int NO_SPACE = 0xFFFF;
+
     private final String name;
     private final String phoneNumber;
     private final int idNumber;
 
+    /**
+     * Позиции первого и второго пробела в имени, упакованные по 16 бит.
+     * Вычисляются один раз при создании клиента, чтобы сравнивать фамилии, имена
+     * и отчества прямо внутри строки без выделения подстрок.
+     */
+    private final int nameSpaces;
+
     public Client(ClientBuilder clientBuilder) {
         this.name = clientBuilder.name;
         this.phoneNumber = clientBuilder.phoneNumber;
         this.idNumber = clientBuilder.idNumber;
+        this.nameSpaces = findNameSpaces(name);
+    }
+
+    private static int findNameSpaces(String name) {
+        if (name == null) {
+            return NO_SPACE | NO_SPACE << 16;
+        }
+        int first = name.indexOf(' ');
+        int second = first < 0 ? -1 : name.indexOf(' ', first + 1);
+        return packSpace(first) | packSpace(second) << 16;
+    }
+
+    private static int packSpace(int index) {
+        return index < 0 || index >= NO_SPACE ? NO_SPACE : index;
     }
 
     public static class ClientBuilder{
@@ -60,6 +91,79 @@ public final class Client {
         return idNumber;
     }
 
+    /**
+     * Начало слова имени.
+     *
+     * @param token {@link #LAST_NAME_TOKEN}, {@link #FIRST_NAME_TOKEN} или {@link #PATRONYMIC_TOKEN}
+     */
+    public int getNameTokenStart(int token) {
+        return switch (token) {
+            case LAST_NAME_TOKEN -> 0;
+            case FIRST_NAME_TOKEN -> Math.min(firstSpace() + 1, name.length());
+            case PATRONYMIC_TOKEN -> Math.min(secondSpace() + 1, name.length());
+            default -> throw new IllegalArgumentException("Неизвестное слово имени: " + token);
+        };
+    }
+
+    /**
+     * Конец слова имени (не включительно). Отчество длится до конца строки.
+     */
+    public int getNameTokenEnd(int token) {
+        return switch (token) {
+            case LAST_NAME_TOKEN -> firstSpace();
+            case FIRST_NAME_TOKEN -> secondSpace();
+            case PATRONYMIC_TOKEN -> name.length();
+            default -> throw new IllegalArgumentException("Неизвестное слово имени: " + token);
+        };
+    }
+
+    public String getNameToken(int token) {
+        return name.substring(getNameTokenStart(token), getNameTokenEnd(token));
+    }
+
+    public String getLastName() {
+        return getNameToken(LAST_NAME_TOKEN);
+    }
+
+    public String getFirstName() {
+        return getNameToken(FIRST_NAME_TOKEN);
+    }
+
+    public String getPatronymic() {
+        return getNameToken(PATRONYMIC_TOKEN);
+    }
+
+    /**
+     * Сравнивает слово имени с тем же словом другого клиента в порядке {@link String#compareTo},
+     * не создавая подстрок.
+     */
+    public int compareNameToken(Client other, int token) {
+        String otherName = other.name;
+        int from1 = getNameTokenStart(token);
+        int from2 = other.getNameTokenStart(token);
+        int length1 = getNameTokenEnd(token) - from1;
+        int length2 = other.getNameTokenEnd(token) - from2;
+        int limit = Math.min(length1, length2);
+        for (int i = 0; i < limit; i++) {
+            char c1 = name.charAt(from1 + i);
+            char c2 = otherName.charAt(from2 + i);
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+        }
+        return length1 - length2;
+    }
+
+    private int firstSpace() {
+        int first = nameSpaces & NO_SPACE;
+        return first == NO_SPACE ? name.length() : first;
+    }
+
+    private int secondSpace() {
+        int second = nameSpaces >>> 16;
+        return second == NO_SPACE ? name.length() : second;
+    }
+
     @Override
     public String toString() {
         return "Client{" +
@@ -3,5 +3,11 @@ package enums;
 public enum Field {
     NAME,
     ID_NUMBER,
-    PHONE_NUMBER
+    PHONE_NUMBER,
+    /** Первое слово имени «Фамилия Имя Отчество». */
+    LAST_NAME,
+    /** Второе слово имени. */
+    FIRST_NAME,
+    /** Третье слово имени; у имен из двух слов пустое. */
+    PATRONYMIC
 }
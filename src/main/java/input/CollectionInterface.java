@@ -11,4 +11,5 @@ public interface CollectionInterface<T> extends Iterable<T>{
     int size(); // important
     boolean isEmpty();
     Stream<T> stream();
+    Stream<T> parallelStream();
 }
@@ -1,10 +1,17 @@
 package input;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * CustomCollection - кастомная реализация динамического массива с автоматическим расширением.
@@ -20,8 +27,10 @@ import java.util.stream.Stream;
  *   <li>Динамическое расширение при добавлении элементов</li>
  *   <li>Поддержка операций добавления, удаления, получения и замены элементов</li>
  *   <li>Итерация через for-each циклы и итераторы</li>
- *   <li>Поддержка Stream API</li>
- *   <li>Добавление всех элементов из другой коллекции</li>
+ *   <li>Поддержка Stream API, в том числе параллельных стримов</li>
+ *   <li>Пакетные операции: добавление и вставка всех элементов другой коллекции,
+ *   копирование диапазона, удаление по условию за один проход</li>
+ *   <li>Отметка о порядке, которому удовлетворяют элементы, и бинарный поиск по ней</li>
  * </ul>
  *
  * @param <T> тип элементов, хранимых в коллекции
@@ -39,7 +48,31 @@ public class CustomCollection<T> implements CollectionInterface<T> {
     /** Количество фактически хранящихся элементов в коллекции. */
     private int size;
 
+    /** Порядок, которому заведомо удовлетворяют элементы, или {@code null}, если порядок неизвестен. */
+    private Comparator<T> sortedBy;
+
+    /** Количество изменений состава или порядка элементов, см. {@link #getModCount()}. */
+    private int modCount;
+
+    /**
+     * Возвращает внутренний массив элементов для изменения.
+     *
+     * <p>Через массив коллекцию можно изменить в обход ее методов, поэтому вызов
+     * сбрасывает отметку о порядке (см. {@link #markSortedBy}). Сортировка, которая
+     * работает с массивом, должна отметить порядок заново после завершения.
+     * Для чтения используйте {@link #readElements()}.
+     */
     public Object[] getElements() {
+        sortedBy = null;
+        modCount++;
+        return elements;
+    }
+
+    /**
+     * Возвращает внутренний массив элементов только для чтения; отметку о порядке не сбрасывает.
+     * Значимы первые {@link #size()} элементов. Изменять массив, полученный этим методом, нельзя.
+     */
+    public Object[] readElements() {
         return elements;
     }
 
@@ -58,6 +91,29 @@ public class CustomCollection<T> implements CollectionInterface<T> {
         this.elements = new Object[initialCapacity];
     }
 
+    private CustomCollection(Object[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Создает коллекцию поверх переданного массива без копирования.
+     * Первые {@code size} элементов массива становятся элементами коллекции;
+     * изменения коллекции видны в массиве, пока ей не потребуется расширение.
+     *
+     * @param elements массив элементов
+     * @param size     количество элементов коллекции
+     * @return коллекция, использующая {@code elements} как внутренний массив
+     * @throws IllegalArgumentException если {@code size} вне диапазона {@code [0, elements.length]}
+     *                                  или массив пуст
+     */
+    public static <T> CustomCollection<T> wrap(Object[] elements, int size) {
+        if (elements == null || elements.length == 0 || size < 0 || size > elements.length) {
+            throw new IllegalArgumentException("Некорректный массив или размер: " + size);
+        }
+        return new CustomCollection<>(elements, size);
+    }
+
     @Override
     public boolean add(T element) {
         // Проверяем достаточно ли места для добавления
@@ -67,6 +123,8 @@ public class CustomCollection<T> implements CollectionInterface<T> {
         }
         // Добавляем новый элемент на последнюю позицию
         elements[size] = element;
+        sortedBy = null;
+        modCount++;
         // Увеличиваем число элементов в массиве
         size++;
         return true;
@@ -91,6 +149,7 @@ public class CustomCollection<T> implements CollectionInterface<T> {
         }
         // Уменьшаем size на 1 после копирования в конце массива остался "лишний" элемент и удаляем его
         elements[--size] = null;
+        modCount++;
     }
 
     @Override
@@ -110,6 +169,7 @@ public class CustomCollection<T> implements CollectionInterface<T> {
             elements[i] = null;
         }
         size = 0;
+        modCount++;
     }
 
     @Override
@@ -128,9 +188,86 @@ public class CustomCollection<T> implements CollectionInterface<T> {
 
         T old = (T) elements[index];
         elements[index] = element;
+        sortedBy = null;
+        modCount++;
         return old;
     }
 
+    /**
+     * Отмечает, что элементы коллекции упорядочены по компаратору.
+     *
+     * <p>Отметка сбрасывается при добавлении и замене элементов и при обращении
+     * к {@link #getElements()}. Удаление и очистка порядок не нарушают и отметку сохраняют.
+     *
+     * @param comparator порядок элементов или {@code null}, если порядок неизвестен
+     */
+    public void markSortedBy(Comparator<T> comparator) {
+        this.sortedBy = comparator;
+    }
+
+    /**
+     * Проверяет, отмечена ли коллекция как упорядоченная по компаратору.
+     * Компараторы сравниваются через {@code equals}, поэтому одинаковые
+     * {@code SortSpec} из разных мест считаются одним порядком.
+     */
+    public boolean isSortedBy(Comparator<?> comparator) {
+        return comparator != null && comparator.equals(sortedBy);
+    }
+
+    /**
+     * Счетчик изменений коллекции. Увеличивается при каждом добавлении, замене и удалении
+     * элементов, а также при выдаче массива для изменения через {@link #getElements()}.
+     * Если счетчик не изменился, коллекция содержит те же элементы в том же порядке.
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Порядок, которому удовлетворяют элементы, или {@code null}, если он неизвестен.
+     */
+    public Comparator<T> getSortedBy() {
+        return sortedBy;
+    }
+
+    /**
+     * Ищет первый элемент, равный ключу по компаратору.
+     *
+     * <p>Если коллекция отмечена как упорядоченная по этому компаратору,
+     * выполняется бинарный поиск за {@code O(log n)}, иначе — последовательный перебор.
+     *
+     * @param key        искомое значение
+     * @param comparator порядок, по которому сравниваются элементы
+     * @return индекс первого равного элемента или {@code -1}, если такого нет
+     * @throws IllegalArgumentException если компаратор равен {@code null}
+     */
+    public int indexOf(T key, Comparator<T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Компаратор не может быть null");
+        }
+
+        if (!isSortedBy(comparator)) {
+            for (int i = 0; i < size; i++) {
+                if (comparator.compare((T) elements[i], key) == 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare((T) elements[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < size && comparator.compare((T) elements[low], key) == 0 ? low : -1;
+    }
+
     /**
      * Возвращает последовательный {@code Stream} с элементами этой коллекции в качестве источника.
      *
@@ -140,17 +277,39 @@ public class CustomCollection<T> implements CollectionInterface<T> {
      */
     @Override
     public Stream<T> stream() {
-        return (Stream<T>) Arrays.stream(elements, 0, size);
+        return StreamSupport.stream(spliterator(), false);
     }
 
     /**
-     * Добавляет все элементы из указанной коллекции в конец этой коллекции.
+     * Возвращает параллельный {@code Stream} с элементами этой коллекции в качестве источника.
      *
-     * <p>Порядок элементов в целевой коллекции соответствует порядку,
-     * в котором они возвращаются итератором указанной коллекции.
+     * <p>Элементы делятся между потоками пополам по внутреннему массиву без копирования
+     * (см. {@link #spliterator()}), поэтому операции вроде {@code filter}/{@code count}
+     * распределяются по всем ядрам. Коллекцию нельзя изменять, пока стрим выполняется.
      *
-     * <p>Поведение этого метода не определено, если указанная коллекция изменяется
-     * в процессе выполнения операции.
+     * @return параллельный {@code Stream} элементов этой коллекции
+     */
+    @Override
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Возвращает {@link Spliterator} по элементам коллекции с характеристиками
+     * {@code ORDERED}, {@code SIZED} и {@code SUBSIZED}: размер известен заранее,
+     * а каждое деление пополам дает части точного размера.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new CustomArraySpliterator(elements, 0, size);
+    }
+
+    /**
+     * Добавляет все элементы из указанной коллекции в конец этой коллекции.
+     *
+     * <p>Емкость увеличивается не более одного раза, а элементы переносятся
+     * одним {@link System#arraycopy}. Порядок элементов сохраняется.
+     * Коллекцию можно добавить саму к себе.
      *
      * @param collection коллекция, содержащая элементы для добавления
      */
@@ -159,8 +318,119 @@ public class CustomCollection<T> implements CollectionInterface<T> {
             return;
         }
 
-        for (T element : collection) {
-            add(element);
+        int added = collection.size;
+        ensureCapacity(size + added);
+        System.arraycopy(collection.elements, 0, elements, size, added);
+        size += added;
+        sortedBy = null;
+        modCount++;
+    }
+
+    /**
+     * Вставляет все элементы из указанной коллекции начиная с позиции {@code index},
+     * сдвигая элементы с этой позиции вправо одним {@link System#arraycopy}.
+     *
+     * @param index      позиция первого вставляемого элемента, от {@code 0} до {@code size()} включительно
+     * @param collection коллекция, содержащая элементы для вставки
+     * @throws IndexOutOfBoundsException если индекс вне диапазона {@code [0, size()]}
+     */
+    public void addAll(int index, CustomCollection<? extends T> collection) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Индекс не может быть меньше 0 или больше " + size);
+        }
+        if (collection == null || collection.isEmpty()) {
+            return;
+        }
+
+        int added = collection.size;
+        // Копируем источник заранее: при вставке коллекции в саму себя он сдвигается
+        Object[] source = collection == this ? Arrays.copyOf(elements, size) : collection.elements;
+        ensureCapacity(size + added);
+        System.arraycopy(elements, index, elements, index + added, size - index);
+        System.arraycopy(source, 0, elements, index, added);
+        size += added;
+        sortedBy = null;
+        modCount++;
+    }
+
+    /**
+     * Возвращает новую коллекцию с копией элементов из диапазона {@code [from, to)}.
+     * Непрерывная часть упорядоченной коллекции тоже упорядочена, поэтому копия
+     * наследует отметку о порядке.
+     *
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы коллекции
+     */
+    public CustomCollection<T> copyRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Некорректный диапазон [" + from + ", " + to + ") для размера " + size);
+        }
+
+        int length = to - from;
+        Object[] copy = new Object[Math.max(length, 1)];
+        System.arraycopy(elements, from, copy, 0, length);
+        CustomCollection<T> range = new CustomCollection<>(copy, length);
+        range.sortedBy = sortedBy;
+        return range;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию, за один проход: оставшиеся элементы
+     * сдвигаются к началу массива, а освободившийся хвост очищается. Порядок оставшихся
+     * элементов и отметка о порядке сохраняются.
+     *
+     * @param filter условие удаления
+     * @return {@code true}, если был удален хотя бы один элемент
+     * @throws IllegalArgumentException если условие равно {@code null}
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Условие не может быть null");
+        }
+
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            T element = (T) elements[i];
+            if (!filter.test(element)) {
+                elements[kept++] = element;
+            }
+        }
+        if (kept == size) {
+            return false;
+        }
+        Arrays.fill(elements, kept, size, null);
+        size = kept;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Оставляет только элементы, которые есть в указанной коллекции (по {@code equals}).
+     * Элементы указанной коллекции один раз собираются в хеш-множество,
+     * поэтому операция линейна, а не квадратична.
+     *
+     * @param collection коллекция элементов, которые нужно сохранить
+     * @return {@code true}, если был удален хотя бы один элемент
+     */
+    public boolean retainAll(CustomCollection<?> collection) {
+        if (collection == null || collection.isEmpty()) {
+            boolean changed = size > 0;
+            clear();
+            return changed;
+        }
+
+        Set<Object> retained = new HashSet<>(Arrays.asList(collection.elements).subList(0, collection.size));
+        return removeIf(element -> !retained.contains(element));
+    }
+
+    /**
+     * Увеличивает емкость внутреннего массива, если она меньше указанной.
+     * Позволяет выделить память один раз перед добавлением большого числа элементов.
+     *
+     * @param minCapacity минимальная требуемая емкость
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            increaseCapacity(minCapacity);
         }
     }
 
@@ -175,7 +445,7 @@ public class CustomCollection<T> implements CollectionInterface<T> {
     }
 
     @Override
-    public Iterator iterator() {
+    public Iterator<T> iterator() {
         return new CustomArrayIterator();
     }
 
@@ -237,6 +507,76 @@ public class CustomCollection<T> implements CollectionInterface<T> {
         }
     }
 
+    /**
+     * Внутренний класс сплитератора для CustomCollection.
+     * Обходит диапазон {@code [index, fence)} внутреннего массива, полученного при создании,
+     * и делит его пополам без копирования элементов.
+     */
+    class CustomArraySpliterator implements Spliterator<T> {
+        private final Object[] array;
+
+        /** Текущая позиция в массиве. */
+        private int index;
+
+        /** Позиция за последним элементом диапазона. */
+        private final int fence;
+
+        CustomArraySpliterator(Object[] array, int index, int fence) {
+            this.array = array;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (index >= fence) {
+                return false;
+            }
+            action.accept((T) array[index++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            for (int i = index; i < fence; i++) {
+                action.accept((T) array[i]);
+            }
+            index = fence;
+        }
+
+        /**
+         * Отдает левую половину оставшегося диапазона новому сплитератору.
+         *
+         * @return сплитератор левой половины или {@code null}, если делить нечего
+         */
+        @Override
+        public Spliterator<T> trySplit() {
+            int low = index;
+            int mid = (low + fence) >>> 1;
+            if (low >= mid) {
+                return null;
+            }
+            index = mid;
+            return new CustomArraySpliterator(array, low, mid);
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     /**
      * Увеличивает емкость внутреннего массива, чтобы обеспечить минимальную указанную емкость.
      * @param minCapacity минимальная требуемая емкость
@@ -0,0 +1,225 @@
+package input;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * IntCustomCollection - динамический массив значений {@code int} без упаковки в {@link Integer}.
+ *
+ * <p>Повторяет политику расширения {@link CustomCollection} (коэффициент {@value #GROWTH_FACTOR}),
+ * но хранит значения во внутреннем массиве {@code int[]}: четыре байта на элемент вместо ссылки
+ * и отдельного объекта {@link Integer}, и никакой работы для сборщика мусора. Предназначена
+ * для индексов, перестановок и массивов ключей.
+ *
+ * <p>Основные возможности:</p>
+ * <ul>
+ *   <li>Добавление, получение, замена и удаление значений</li>
+ *   <li>Пакетные операции на {@link System#arraycopy}: добавление, копирование диапазона,
+ *   удаление по условию за один проход</li>
+ *   <li>Сортировка и примитивные стримы {@link IntStream}, в том числе параллельные</li>
+ * </ul>
+ */
+public class IntCustomCollection {
+    /** Коэффициент увеличения емкости при расширении массива. */
+    private static final float GROWTH_FACTOR = 1.5f;
+
+    /** Начальная емкость по умолчанию при создании коллекции без указания размера. */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /** Внутренний массив для хранения значений коллекции. */
+    private int[] elements;
+
+    /** Количество фактически хранящихся значений в коллекции. */
+    private int size;
+
+    public IntCustomCollection() {
+        this.elements = new int[DEFAULT_CAPACITY];
+    }
+
+    public IntCustomCollection(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Емкость должна быть больше 0");
+        }
+        this.elements = new int[initialCapacity];
+    }
+
+    private IntCustomCollection(int[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Создает коллекцию поверх переданного массива без копирования;
+     * первые {@code size} элементов массива становятся значениями коллекции.
+     *
+     * @throws IllegalArgumentException если {@code size} вне диапазона {@code [0, elements.length]}
+     *                                  или массив пуст
+     */
+    public static IntCustomCollection wrap(int[] elements, int size) {
+        if (elements == null || elements.length == 0 || size < 0 || size > elements.length) {
+            throw new IllegalArgumentException("Некорректный массив или размер: " + size);
+        }
+        return new IntCustomCollection(elements, size);
+    }
+
+    /**
+     * Возвращает внутренний массив значений; значимы только первые {@link #size()} элементов.
+     */
+    public int[] getElements() {
+        return elements;
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            increaseCapacity(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public int set(int index, int value) {
+        checkIndex(index);
+        int old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    public void removeByIndex(int index) {
+        checkIndex(index);
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет все значения из указанной коллекции в конец этой коллекции
+     * с одним расширением массива и одним {@link System#arraycopy}.
+     */
+    public void addAll(IntCustomCollection collection) {
+        if (collection == null || collection.isEmpty()) {
+            return;
+        }
+        addAll(collection.elements, 0, collection.size);
+    }
+
+    /**
+     * Добавляет значения {@code values[from, to)} в конец коллекции.
+     *
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public void addAll(int[] values, int from, int to) {
+        if (from < 0 || to > values.length || from > to) {
+            throw new IndexOutOfBoundsException("Некорректный диапазон [" + from + ", " + to + ")");
+        }
+        int added = to - from;
+        ensureCapacity(size + added);
+        System.arraycopy(values, from, elements, size, added);
+        size += added;
+    }
+
+    /**
+     * Возвращает новую коллекцию с копией значений из диапазона {@code [from, to)}.
+     *
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы коллекции
+     */
+    public IntCustomCollection copyRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Некорректный диапазон [" + from + ", " + to + ") для размера " + size);
+        }
+        IntCustomCollection range = new IntCustomCollection(Math.max(to - from, 1));
+        range.addAll(elements, from, to);
+        return range;
+    }
+
+    /**
+     * Удаляет все значения, удовлетворяющие условию, за один проход с сохранением порядка остальных.
+     *
+     * @return {@code true}, если было удалено хотя бы одно значение
+     * @throws IllegalArgumentException если условие равно {@code null}
+     */
+    public boolean removeIf(IntPredicate filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Условие не может быть null");
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int value = elements[i];
+            if (!filter.test(value)) {
+                elements[kept++] = value;
+            }
+        }
+        boolean removed = kept < size;
+        size = kept;
+        return removed;
+    }
+
+    /**
+     * Сортирует значения по возрастанию.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Возвращает копию значений коллекции в массиве точного размера.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Возвращает последовательный {@link IntStream} значений коллекции без упаковки.
+     */
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Возвращает параллельный {@link IntStream}; массив делится между потоками пополам без копирования.
+     */
+    public IntStream parallelStream() {
+        return stream().parallel();
+    }
+
+    /**
+     * Увеличивает емкость внутреннего массива, если она меньше указанной.
+     *
+     * @param minCapacity минимальная требуемая емкость
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            increaseCapacity(minCapacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Индекс не может быть меньше 0 или больше " + size);
+        }
+    }
+
+    /**
+     * Увеличивает емкость внутреннего массива, чтобы обеспечить минимальную указанную емкость.
+     * @param minCapacity минимальная требуемая емкость
+     */
+    private void increaseCapacity(int minCapacity) {
+        int newCapacity = (int) Math.max(elements.length * GROWTH_FACTOR + 1, minCapacity);
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+}
@@ -0,0 +1,163 @@
+package sorting;
+
+import dto.Client;
+import input.CustomCollection;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Сортировка в порядке по умолчанию (имя -> ID -> телефон) с сокращенными ключами.
+ *
+ * <p>Перед сортировкой для каждого клиента один раз строится примитивный ключ:
+ * первые символы имени, упакованные в {@code long}. Сортируются пары «ключ + ссылка»
+ * в параллельных массивах, поэтому большинство сравнений — это одно сравнение чисел
+ * без обращения к объекту {@link Client} и его строке. Полный компаратор
+ * {@link MergeSortDefaultStrategy} вызывается только при равных ключах.
+ *
+ * <p>Ключ сохраняет порядок {@link String#compareTo}: если ключи различаются,
+ * имена различаются в том же направлении. Если все символы префиксов помещаются в 12 бит
+ * (кириллица и латиница), в ключ упаковывается 5 символов, иначе 4 по 16 бит.
+ *
+ * <p>Сортировка стабильна и дает тот же результат, что и {@link MergeSortDefaultStrategy}.
+ */
+public class AbbreviatedKeySortStrategy extends MergeSortDefaultStrategy {
+    /** Диапазоны не длиннее этого сортируются вставками. */
+    private static final int INSERTION_SORT_CUTOFF = 16;
+
+    private static final int COMPACT_CHAR_BITS = 12;
+    private static final int COMPACT_PREFIX_LENGTH = Long.SIZE / COMPACT_CHAR_BITS;
+    private static final int WIDE_PREFIX_LENGTH = Long.SIZE / Character.SIZE;
+
+    @Override
+    public void sort(CustomCollection<Client> clients) {
+        if (clients == null || clients.size() <= 1) {
+            return;
+        }
+
+        Object[] elements = clients.getElements();
+        int size = clients.size();
+        long[] keys = buildKeys(elements, size);
+
+        new PairSorter(keys, elements, getComparator()).sort(size);
+    }
+
+    /**
+     * Строит сокращенные ключи для первых {@code size} клиентов.
+     * Схема упаковки выбирается одна на всю сортировку, иначе ключи были бы несравнимы.
+     */
+    static long[] buildKeys(Object[] elements, int size) {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            long key = compactKey(((Client) elements[i]).getName());
+            if (key < 0) {
+                for (int j = 0; j < size; j++) {
+                    keys[j] = wideKey(((Client) elements[j]).getName());
+                }
+                return keys;
+            }
+            keys[i] = key;
+        }
+        return keys;
+    }
+
+    /**
+     * Первые 5 символов по 12 бит или {@code -1}, если какой-то символ префикса не помещается.
+     */
+    static long compactKey(String name) {
+        long key = 0;
+        for (int i = 0; i < COMPACT_PREFIX_LENGTH; i++) {
+            char symbol = i < name.length() ? name.charAt(i) : 0;
+            if (symbol >>> COMPACT_CHAR_BITS != 0) {
+                return -1;
+            }
+            key = (key << COMPACT_CHAR_BITS) | symbol;
+        }
+        return key;
+    }
+
+    /**
+     * Первые 4 символа по 16 бит; ключи сравниваются как беззнаковые.
+     */
+    static long wideKey(String name) {
+        long key = 0;
+        for (int i = 0; i < WIDE_PREFIX_LENGTH; i++) {
+            char symbol = i < name.length() ? name.charAt(i) : 0;
+            key = (key << Character.SIZE) | symbol;
+        }
+        return key;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Abbreviated Key Merge Sort (сортировка по имени -> ID -> телефону с сокращенными ключами)";
+    }
+
+    /**
+     * Сортировка слиянием пар «ключ + ссылка» с одним буфером на всю сортировку.
+     */
+    private static final class PairSorter {
+        private final long[] keys;
+        private final Object[] elements;
+        private final Comparator<Client> tieBreaker;
+
+        PairSorter(long[] keys, Object[] elements, Comparator<Client> tieBreaker) {
+            this.keys = keys;
+            this.elements = elements;
+            this.tieBreaker = tieBreaker;
+        }
+
+        void sort(int size) {
+            long[] keysBuffer = Arrays.copyOf(keys, size);
+            Object[] elementsBuffer = Arrays.copyOf(elements, size);
+            mergeSort(keysBuffer, elementsBuffer, keys, elements, 0, size);
+        }
+
+        private int compare(long key1, Object element1, long key2, Object element2) {
+            int comparison = Long.compareUnsigned(key1, key2);
+            return comparison != 0 ? comparison : tieBreaker.compare((Client) element1, (Client) element2);
+        }
+
+        /**
+         * Сортирует {@code [from, to)} в {@code dest*}, используя {@code src*} как буфер.
+         */
+        private void mergeSort(long[] srcKeys, Object[] srcElements, long[] destKeys, Object[] destElements,
+                               int from, int to) {
+            if (to - from <= INSERTION_SORT_CUTOFF) {
+                insertionSort(destKeys, destElements, from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            mergeSort(destKeys, destElements, srcKeys, srcElements, from, mid);
+            mergeSort(destKeys, destElements, srcKeys, srcElements, mid, to);
+
+            int i = from;
+            int j = mid;
+            for (int k = from; k < to; k++) {
+                if (j >= to || (i < mid && compare(srcKeys[i], srcElements[i], srcKeys[j], srcElements[j]) <= 0)) {
+                    destKeys[k] = srcKeys[i];
+                    destElements[k] = srcElements[i++];
+                } else {
+                    destKeys[k] = srcKeys[j];
+                    destElements[k] = srcElements[j++];
+                }
+            }
+        }
+
+        private void insertionSort(long[] keys, Object[] elements, int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                long key = keys[i];
+                Object element = elements[i];
+                int j = i - 1;
+                while (j >= from && compare(keys[j], elements[j], key, element) > 0) {
+                    keys[j + 1] = keys[j];
+                    elements[j + 1] = elements[j];
+                    j--;
+                }
+                keys[j + 1] = key;
+                elements[j + 1] = element;
+            }
+        }
+    }
+}
@@ -1,120 +1,120 @@
 package sorting;
 
 import dto.Client;
+import enums.Field;
 import input.CustomCollection;
 
+import java.util.Arrays;
 import java.util.Comparator;
 
 public abstract class AbstractMergeSortStrategy implements SortingStrategy {
 
+    /**
+     * Сортирует коллекцию слиянием по переданному компаратору.
+     *
+     * <p>Работает напрямую с внутренним массивом {@link CustomCollection#getElements()}.
+     * За всю сортировку выделяется ровно один вспомогательный массив длины {@code size}:
+     * на каждом уровне рекурсии исходный и вспомогательный массивы меняются ролями,
+     * поэтому слияния не создают новых объектов и не копируют результат обратно.
+     *
+     * <p>Сортировка стабильна: равные элементы сохраняют исходный порядок.
+     *
+     * @param clients    коллекция для сортировки
+     * @param comparator компаратор, задающий порядок
+     */
     public void sortWithComparator(CustomCollection<Client> clients, Comparator<Client> comparator) {
         if (clients == null || clients.size() <= 1) {
             return;
         }
 
-        mergeSort(clients, 0, clients.size() - 1, comparator);
+        Object[] elements = clients.getElements();
+        Object[] buffer = Arrays.copyOf(elements, clients.size());
+
+        mergeSort(buffer, elements, 0, clients.size(), comparator);
     }
 
     protected abstract Comparator<Client> getComparator();
 
+    @Override
+    public Comparator<Client> getOrdering() {
+        return getComparator();
+    }
+
     @Override
     public String getStrategyName() {
         return "Abstract Merge Sort (сортировка слиянием)";
     }
 
-    private void mergeSort(CustomCollection<Client> clients, int left, int right,
-                           Comparator<Client> comparator) {
-
-        if (left < right) {
-            int mid = left + (right - left) / 2;
-
-            mergeSort(clients, left, mid, comparator);
-
-            mergeSort(clients, mid + 1, right, comparator);
-
-            merge(clients, left, mid, right, comparator);
+    /**
+     * Сортирует диапазон {@code [from, to)} и кладет результат в {@code dest}.
+     * Перед вызовом диапазон в {@code src} и {@code dest} должен содержать одни и те же элементы;
+     * {@code src} используется как рабочий буфер и после вызова не определен.
+     */
+    protected static void mergeSort(Object[] src, Object[] dest, int from, int to,
+                                    Comparator<Client> comparator) {
+        if (to - from < 2) {
+            return;
         }
-    }
-
-
-    private void merge(CustomCollection<Client> clients, int left, int mid, int right,
-                       Comparator<Client> comparator) {
-
-        CustomCollection<Client> temp = new CustomCollection<>();
-
-        int i = left;
-        int j = mid + 1;
 
+        int mid = (from + to) >>> 1;
 
-        while (i <= mid && j <= right) {
-            Client leftClient = clients.get(i);
-            Client rightClient = clients.get(j);
+        // Половины сортируются в src, затем сливаются в dest
+        mergeSort(dest, src, from, mid, comparator);
+        mergeSort(dest, src, mid, to, comparator);
 
+        merge(src, dest, from, mid, to, comparator);
+    }
 
-            int comparison = comparator.compare(leftClient, rightClient);
+    /**
+     * Сливает отсортированные диапазоны {@code src[from, mid)} и {@code src[mid, to)}
+     * в {@code dest[from, to)}. При равенстве первым берется элемент левой части.
+     */
+    protected static void merge(Object[] src, Object[] dest, int from, int mid, int to,
+                                Comparator<Client> comparator) {
+        // Если половины уже идут по порядку, достаточно скопировать диапазон целиком
+        if (comparator.compare((Client) src[mid - 1], (Client) src[mid]) <= 0) {
+            System.arraycopy(src, from, dest, from, to - from);
+            return;
+        }
 
+        int i = from;
+        int j = mid;
 
-            if (comparison <= 0) {
-                temp.add(leftClient);
-                i++;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && comparator.compare((Client) src[i], (Client) src[j]) <= 0)) {
+                dest[k] = src[i++];
             } else {
-                temp.add(rightClient);
-                j++;
+                dest[k] = src[j++];
             }
         }
+    }
 
-        while (i <= mid) {
-            temp.add(clients.get(i));
-            i++;
-        }
-
-        while (j <= right) {
-            temp.add(clients.get(j));
-            j++;
-        }
-
-        for (int k = 0; k < temp.size(); k++) {
-            clients.set(left + k, temp.get(k));
+    /**
+     * Стабильная сортировка вставками диапазона {@code a[from, to)}.
+     * Используется для коротких участков, где слияние дороже прямых сдвигов.
+     */
+    protected static void insertionSort(Object[] a, int from, int to, Comparator<Client> comparator) {
+        for (int i = from + 1; i < to; i++) {
+            Object current = a[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare((Client) a[j], (Client) current) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = current;
         }
     }
 
     @Override
     public void sortEvenValuesOnly(CustomCollection<Client> clients) {
         // Компаратор для сортировки по idNumber в натуральном порядке (по возрастанию)
-        Comparator<Client> idComparator = Comparator.comparing(Client::getIdNumber);
+        Comparator<Client> idComparator = SortSpec.of(Field.ID_NUMBER, true).toComparator();
         sortEvenValuesOnly(clients, idComparator);
     }
 
     public void sortEvenValuesOnly(CustomCollection<Client> clients, Comparator<Client> comparator) {
-        if (clients == null || clients.isEmpty()) {
-            return;
-        }
-
-        // Создаем список для хранения элементов с четными idNumber и их индексов
-        CustomCollection<Client> evenClients = new CustomCollection<>();
-        CustomCollection<Integer> evenIndices = new CustomCollection<>();
-
-        // Собираем все элементы с четными idNumber и запоминаем их индексы
-        for (int i = 0; i < clients.size(); i++) {
-            Client client = clients.get(i);
-            if (client.getIdNumber() % 2 == 0) {
-                evenClients.add(client);
-                evenIndices.add(i);
-            }
-        }
-
-        // Если нет элементов с четными значениями, ничего не делаем
-        if (evenClients.isEmpty()) {
-            return;
-        }
-
-        // Сортируем только элементы с четными значениями по idNumber в натуральном порядке
-        sortWithComparator(evenClients, comparator);
-
-        // Возвращаем отсортированные элементы на исходные позиции
-        for (int i = 0; i < evenClients.size(); i++) {
-            int originalIndex = evenIndices.get(i);
-            clients.set(originalIndex, evenClients.get(i));
-        }
+        // Сортируем только элементы с четными idNumber, нечетные остаются на своих местах
+        PredicateScopedSorter.sortMatching(clients, PredicateScopedSorter.EVEN_ID,
+                evenClients -> sortWithComparator(evenClients, comparator));
     }
-}
\ No newline at end of file
+}
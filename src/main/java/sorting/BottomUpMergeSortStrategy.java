@@ -0,0 +1,115 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+
+import java.util.Comparator;
+
+/**
+ * Итеративная (восходящая) сортировка слиянием без рекурсии.
+ *
+ * <p>Сначала коллекция разбивается на базовые участки по {@value #RUN_LENGTH} элементов,
+ * каждый из которых сортируется вставками. Затем выполняются проходы слияния
+ * с удваивающейся шириной, попеременно из внутреннего массива коллекции во
+ * вспомогательный буфер и обратно.
+ *
+ * <p>Сортировка стабильна и дает тот же результат, что и {@link MergeSortDefaultStrategy}
+ * или {@link MergeSortDynamicStrategy} с тем же компаратором.
+ */
+public class BottomUpMergeSortStrategy extends AbstractMergeSortStrategy {
+    /** Длина базового участка, сортируемого вставками. */
+    static final int RUN_LENGTH = 32;
+
+    private final Comparator<Client> comparator;
+
+    /**
+     * Создает стратегию с порядком по умолчанию (имя -> ID -> телефон).
+     */
+    public BottomUpMergeSortStrategy() {
+        this(new MergeSortDefaultStrategy().getComparator());
+    }
+
+    /**
+     * Создает стратегию с сортировкой по одному полю.
+     *
+     * @param field     поле для сортировки
+     * @param ascending {@code true} для сортировки по возрастанию
+     */
+    public BottomUpMergeSortStrategy(Field field, boolean ascending) {
+        this(new MergeSortDynamicStrategy(field, ascending).getComparator());
+    }
+
+    public BottomUpMergeSortStrategy(Comparator<Client> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Компаратор не может быть null");
+        }
+        this.comparator = comparator;
+    }
+
+    @Override
+    public void sort(CustomCollection<Client> clients) {
+        sortWithComparator(clients, getComparator());
+    }
+
+    @Override
+    public void sortWithComparator(CustomCollection<Client> clients, Comparator<Client> comparator) {
+        if (clients == null || clients.size() <= 1) {
+            return;
+        }
+
+        Object[] elements = clients.getElements();
+        int size = clients.size();
+
+        // Границы считаются через остаток size - from: from + шаг может переполнить int
+        for (int from = 0; from < size; ) {
+            int to = size - from <= RUN_LENGTH ? size : from + RUN_LENGTH;
+            insertionSort(elements, from, to, comparator);
+            from = to;
+        }
+
+        if (size <= RUN_LENGTH) {
+            return;
+        }
+
+        Object[] src = elements;
+        Object[] dest = new Object[size];
+
+        for (int width = RUN_LENGTH; ; width <<= 1) {
+            for (int from = 0; from < size; ) {
+                int mid = size - from <= width ? size : from + width;
+                int to = size - from <= 2L * width ? size : from + 2 * width;
+                if (mid < to) {
+                    merge(src, dest, from, mid, to, comparator);
+                } else {
+                    // Хвост без пары переносится как есть
+                    System.arraycopy(src, from, dest, from, to - from);
+                }
+                from = to;
+            }
+            Object[] swap = src;
+            src = dest;
+            dest = swap;
+
+            // Участок удвоенной ширины уже покрывает весь массив; проверка без удвоения width
+            if (width >= size - width) {
+                break;
+            }
+        }
+
+        // После нечетного числа проходов результат лежит в буфере
+        if (src != elements) {
+            System.arraycopy(src, 0, elements, 0, size);
+        }
+    }
+
+    @Override
+    protected Comparator<Client> getComparator() {
+        return comparator;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Bottom-Up Merge Sort (итеративная сортировка слиянием)";
+    }
+}
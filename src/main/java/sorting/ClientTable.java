@@ -0,0 +1,246 @@
+package sorting;
+
+import dto.Client;
+import input.CustomCollection;
+import input.IntCustomCollection;
+import input.LongCustomCollection;
+
+import java.util.Arrays;
+
+/**
+ * Столбцовое хранилище клиентов.
+ *
+ * <p>Каждый {@link Client} — отдельный объект с двумя строками, поэтому миллионы клиентов —
+ * это в несколько раз больше объектов, разбросанных по куче, и сортировка по ID перебирает
+ * их все через ссылки. Таблица хранит те же данные тремя столбцами: ID в {@code int[]},
+ * телефоны, упакованные {@link PhoneRadixSortStrategy#packPhone} в {@code long[]}, и имена
+ * подряд в общем массиве символов со смещениями начала каждого имени. Строка таблицы —
+ * это номер позиции во всех столбцах.
+ *
+ * <p>Объекты {@link Client} создаются только по запросу ({@link #getClient(int)},
+ * {@link #toCollection()}). {@link ColumnSortStrategy} сортирует таблицу прямо по столбцам.
+ *
+ * <p>В таблицу принимаются только клиенты с именем и телефоном формата {@code +7XXXXXXXXXX},
+ * то есть прошедшие валидацию при вводе.
+ */
+public class ClientTable {
+    /**
+     * Наибольшее количество строк. Номер строки занимает не более 29 бит, поэтому
+     * вместе с упакованным телефоном (34 бита) помещается в один {@code long}.
+     */
+    static final int MAX_ROWS = 1 << 29;
+
+    /** Наибольшая суммарная длина имен: предельный размер массива в JVM. */
+    static final int MAX_NAMES_LENGTH = Integer.MAX_VALUE - 8;
+
+    /** Коэффициент увеличения массива символов имен. */
+    private static final float GROWTH_FACTOR = 1.5f;
+
+    /** Ожидаемая средняя длина имени для начального размера массива символов. */
+    private static final int ESTIMATED_NAME_LENGTH = 16;
+
+    private static final int PHONE_DIGITS = 10;
+
+    private IntCustomCollection ids;
+    private LongCustomCollection phones;
+
+    /** Начало имени каждой строки в {@link #names}; последнее значение — конец имен. */
+    private IntCustomCollection nameOffsets;
+    private char[] names;
+
+    public ClientTable() {
+        this(16);
+    }
+
+    /**
+     * @param initialCapacity ожидаемое количество строк
+     * @throws IllegalArgumentException если емкость меньше 1
+     */
+    public ClientTable(int initialCapacity) {
+        this(initialCapacity, initialCapacity * ESTIMATED_NAME_LENGTH);
+    }
+
+    private ClientTable(int initialCapacity, int nameCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Емкость должна быть больше 0");
+        }
+        this.ids = new IntCustomCollection(initialCapacity);
+        this.phones = new LongCustomCollection(initialCapacity);
+        this.nameOffsets = new IntCustomCollection(initialCapacity + 1);
+        this.nameOffsets.add(0);
+        this.names = new char[Math.max(nameCapacity, 1)];
+    }
+
+    /**
+     * Создает таблицу из коллекции клиентов, выделяя столбцы один раз под ее размер.
+     *
+     * @throws IllegalArgumentException если у клиента нет имени или телефон не соответствует формату
+     */
+    public static ClientTable of(CustomCollection<Client> clients) {
+        if (clients == null || clients.isEmpty()) {
+            return new ClientTable();
+        }
+
+        long nameChars = clients.stream()
+                .mapToLong(client -> client == null || client.getName() == null ? 0 : client.getName().length())
+                .sum();
+        ClientTable table = new ClientTable(clients.size(), (int) Math.min(nameChars, MAX_NAMES_LENGTH));
+        clients.stream().forEach(table::add);
+        return table;
+    }
+
+    /**
+     * Добавляет клиента в конец таблицы.
+     *
+     * @throws IllegalArgumentException если у клиента нет имени или телефон не соответствует формату
+     * @throws IllegalStateException    если таблица уже содержит {@value #MAX_ROWS} строк
+     *                                  или имена не помещаются в массив символов
+     */
+    public void add(Client client) {
+        if (client == null || client.getName() == null) {
+            throw new IllegalArgumentException("Клиент и его имя не могут быть null");
+        }
+        long phone = PhoneRadixSortStrategy.packPhone(client.getPhoneNumber());
+        if (phone < 0) {
+            throw new IllegalArgumentException("Телефон не соответствует формату +7XXXXXXXXXX: "
+                    + client.getPhoneNumber());
+        }
+        if (size() >= MAX_ROWS) {
+            throw new IllegalStateException("Таблица не может содержать больше " + MAX_ROWS + " строк");
+        }
+
+        String name = client.getName();
+        int start = namesLength();
+        // Сумма длин имен может превысить int раньше, чем будет достигнут MAX_ROWS
+        long newLength = (long) start + name.length();
+        if (newLength > MAX_NAMES_LENGTH) {
+            throw new IllegalStateException("Суммарная длина имен в таблице не может превышать "
+                    + MAX_NAMES_LENGTH + " символов");
+        }
+        int end = (int) newLength;
+        if (end > names.length) {
+            names = Arrays.copyOf(names, (int) Math.min(Math.max(names.length * GROWTH_FACTOR + 1, end),
+                    MAX_NAMES_LENGTH));
+        }
+        name.getChars(0, name.length(), names, start);
+
+        ids.add(client.getIdNumber());
+        phones.add(phone);
+        nameOffsets.add(end);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public boolean isEmpty() {
+        return ids.isEmpty();
+    }
+
+    public int getIdNumber(int row) {
+        return ids.get(row);
+    }
+
+    /**
+     * Телефон строки в виде десятизначного числа после {@code +7}.
+     */
+    public long getPackedPhone(int row) {
+        return phones.get(row);
+    }
+
+    public String getPhoneNumber(int row) {
+        String digits = Long.toString(phones.get(row));
+        return "+7" + "0".repeat(PHONE_DIGITS - digits.length()) + digits;
+    }
+
+    public String getName(int row) {
+        int start = nameOffsets.get(row);
+        return new String(names, start, nameOffsets.get(row + 1) - start);
+    }
+
+    /**
+     * Сравнивает имена двух строк в порядке {@link String#compareTo}, не создавая строк.
+     */
+    public int compareNames(int row1, int row2) {
+        int[] offsets = nameOffsets.getElements();
+        return Arrays.compare(names, offsets[row1], offsets[row1 + 1], names, offsets[row2], offsets[row2 + 1]);
+    }
+
+    /**
+     * Создает клиента с данными строки таблицы.
+     */
+    public Client getClient(int row) {
+        return new Client.ClientBuilder()
+                .name(getName(row))
+                .phoneNumber(getPhoneNumber(row))
+                .idNumber(getIdNumber(row))
+                .build();
+    }
+
+    /**
+     * Создает коллекцию клиентов в порядке строк таблицы.
+     */
+    public CustomCollection<Client> toCollection() {
+        CustomCollection<Client> clients = new CustomCollection<>(Math.max(size(), 1));
+        for (int row = 0; row < size(); row++) {
+            clients.add(getClient(row));
+        }
+        return clients;
+    }
+
+    /**
+     * Столбец ID; значимы первые {@link #size()} элементов.
+     */
+    int[] idColumn() {
+        return ids.getElements();
+    }
+
+    /**
+     * Столбец упакованных телефонов; значимы первые {@link #size()} элементов.
+     */
+    long[] phoneColumn() {
+        return phones.getElements();
+    }
+
+    /**
+     * Переставляет строки: новой строкой {@code i} становится прежняя строка {@code order[i]}.
+     * Имена переписываются в новом порядке, поэтому имена соседних строк
+     * и после перестановки лежат в массиве рядом.
+     *
+     * @throws IllegalArgumentException если длина перестановки не совпадает с размером таблицы
+     */
+    void reorder(int[] order) {
+        int size = size();
+        if (order.length != size) {
+            throw new IllegalArgumentException("Размер перестановки должен совпадать с размером таблицы");
+        }
+
+        int[] idColumn = ids.getElements();
+        long[] phoneColumn = phones.getElements();
+        int[] offsets = nameOffsets.getElements();
+
+        int[] newIds = new int[Math.max(size, 1)];
+        long[] newPhones = new long[Math.max(size, 1)];
+        int[] newOffsets = new int[size + 1];
+        char[] newNames = new char[names.length];
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            int row = order[i];
+            newIds[i] = idColumn[row];
+            newPhones[i] = phoneColumn[row];
+            int length = offsets[row + 1] - offsets[row];
+            System.arraycopy(names, offsets[row], newNames, position, length);
+            position += length;
+            newOffsets[i + 1] = position;
+        }
+
+        ids = IntCustomCollection.wrap(newIds, size);
+        phones = LongCustomCollection.wrap(newPhones, size);
+        nameOffsets = IntCustomCollection.wrap(newOffsets, size + 1);
+        names = newNames;
+    }
+
+    private int namesLength() {
+        return nameOffsets.get(nameOffsets.size() - 1);
+    }
+}
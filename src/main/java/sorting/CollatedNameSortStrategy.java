@@ -0,0 +1,213 @@
+package sorting;
+
+import dto.Client;
+import input.CustomCollection;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Сортировка по имени по правилам русского алфавита.
+ *
+ * <p>{@link String#compareTo} сравнивает коды символов, поэтому {@code Ё} оказывается
+ * перед всеми заглавными буквами, а {@code ё} — после {@code я}. {@link Collator}
+ * для русской локали ставит их рядом с {@code Е}, но каждое его сравнение разбирает
+ * строки заново и в десятки раз дороже. Поэтому для каждого имени один раз строится
+ * ключ сортировки ({@link java.text.CollationKey#toByteArray()}), и дальше сравниваются
+ * только массивы байт.
+ *
+ * <p>Ключи кешируются по имени внутри стратегии и переиспользуются при повторных
+ * сортировках тех же данных. Кеш ограничен {@value #MAX_CACHED_KEYS} именами
+ * и очищается при переполнении. Экземпляр стратегии не потокобезопасен.
+ *
+ * <p>Сортировка стабильна: клиенты с равными по правилам алфавита именами
+ * сохраняют исходный порядок.
+ */
+public class CollatedNameSortStrategy implements SortingStrategy {
+    /** Наибольшее количество имен в кеше ключей. */
+    static final int MAX_CACHED_KEYS = 1 << 20;
+
+    /** Диапазоны не длиннее этого сортируются вставками. */
+    private static final int INSERTION_SORT_CUTOFF = 16;
+
+    /** Локаль, по правилам которой сравниваются имена. */
+    static final Locale RUSSIAN = Locale.of("ru", "RU");
+
+    private final boolean ascending;
+
+    /** Общий для ключей сортировки и компаратора {@link #getOrdering()}. */
+    private final Collator collator = Collator.getInstance(RUSSIAN);
+    private final Map<String, byte[]> keyCache = new HashMap<>();
+
+    public CollatedNameSortStrategy() {
+        this(true);
+    }
+
+    public CollatedNameSortStrategy(boolean ascending) {
+        this.ascending = ascending;
+    }
+
+    @Override
+    public void sort(CustomCollection<Client> clients) {
+        if (clients == null || clients.size() <= 1) {
+            return;
+        }
+
+        Object[] elements = clients.getElements();
+        int size = clients.size();
+        byte[][] keys = new byte[size][];
+        for (int i = 0; i < size; i++) {
+            keys[i] = keyOf(((Client) elements[i]).getName());
+        }
+
+        new KeySorter(keys, elements, ascending).sort(size);
+    }
+
+    /**
+     * Ключ сортировки имени из кеша или новый, если имени в кеше нет.
+     */
+    byte[] keyOf(String name) {
+        byte[] key = keyCache.get(name);
+        if (key == null) {
+            if (keyCache.size() >= MAX_CACHED_KEYS) {
+                keyCache.clear();
+            }
+            key = collator.getCollationKey(name).toByteArray();
+            keyCache.put(name, key);
+        }
+        return key;
+    }
+
+    int cachedKeys() {
+        return keyCache.size();
+    }
+
+    /**
+     * Сортирует по возрастанию ID только клиентов с четным ID, как и остальные стратегии.
+     */
+    @Override
+    public void sortEvenValuesOnly(CustomCollection<Client> clients) {
+        new IdRadixSortStrategy().sortEvenValuesOnly(clients);
+    }
+
+    /**
+     * Компаратор того же порядка; сравнивает через тот же {@link Collator}, что и ключи
+     * сортировки, и нужен для отметки порядка в коллекции и поиска, а не для сортировки.
+     */
+    @Override
+    public Comparator<Client> getOrdering() {
+        return new CollatedNameComparator(ascending, collator);
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Collated Name Sort (сортировка по имени по правилам русского алфавита, "
+                + (ascending ? "по возрастанию" : "по убыванию") + ")";
+    }
+
+    /**
+     * Порядок имен по русскому алфавиту; компараторы с одинаковым направлением равны,
+     * так как все они сравнивают по правилам локали {@link #RUSSIAN}.
+     */
+    static final class CollatedNameComparator implements Comparator<Client> {
+        private final boolean ascending;
+        private final Collator collator;
+
+        CollatedNameComparator(boolean ascending, Collator collator) {
+            this.ascending = ascending;
+            this.collator = collator;
+        }
+
+        @Override
+        public int compare(Client c1, Client c2) {
+            int comparison = collator.compare(c1.getName(), c2.getName());
+            return ascending ? comparison : -comparison;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CollatedNameComparator comparator && ascending == comparator.ascending;
+        }
+
+        @Override
+        public int hashCode() {
+            return Boolean.hashCode(ascending);
+        }
+    }
+
+    /**
+     * Сортировка слиянием пар «ключ + ссылка» с одним буфером на всю сортировку.
+     */
+    private static final class KeySorter {
+        private final byte[][] keys;
+        private final Object[] elements;
+        private final boolean ascending;
+
+        KeySorter(byte[][] keys, Object[] elements, boolean ascending) {
+            this.keys = keys;
+            this.elements = elements;
+            this.ascending = ascending;
+        }
+
+        void sort(int size) {
+            byte[][] keysBuffer = Arrays.copyOf(keys, size);
+            Object[] elementsBuffer = Arrays.copyOf(elements, size);
+            mergeSort(keysBuffer, elementsBuffer, keys, elements, 0, size);
+        }
+
+        private int compare(byte[] key1, byte[] key2) {
+            int comparison = Arrays.compareUnsigned(key1, key2);
+            return ascending ? comparison : -comparison;
+        }
+
+        /**
+         * Сортирует {@code [from, to)} в {@code dest*}, используя {@code src*} как буфер.
+         */
+        private void mergeSort(byte[][] srcKeys, Object[] srcElements, byte[][] destKeys, Object[] destElements,
+                               int from, int to) {
+            if (to - from <= INSERTION_SORT_CUTOFF) {
+                insertionSort(destKeys, destElements, from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            mergeSort(destKeys, destElements, srcKeys, srcElements, from, mid);
+            mergeSort(destKeys, destElements, srcKeys, srcElements, mid, to);
+
+            int i = from;
+            int j = mid;
+            for (int k = from; k < to; k++) {
+                if (j >= to || (i < mid && compare(srcKeys[i], srcKeys[j]) <= 0)) {
+                    destKeys[k] = srcKeys[i];
+                    destElements[k] = srcElements[i++];
+                } else {
+                    destKeys[k] = srcKeys[j];
+                    destElements[k] = srcElements[j++];
+                }
+            }
+        }
+
+        private void insertionSort(byte[][] keys, Object[] elements, int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                byte[] key = keys[i];
+                Object element = elements[i];
+                int j = i - 1;
+                while (j >= from && compare(keys[j], key) > 0) {
+                    keys[j + 1] = keys[j];
+                    elements[j + 1] = elements[j];
+                    j--;
+                }
+                keys[j + 1] = key;
+                elements[j + 1] = element;
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package sorting;
+
+import enums.Field;
+
+import java.util.Arrays;
+
+/**
+ * Сортировка {@link ClientTable} прямо по столбцам, без объектов {@link dto.Client}.
+ *
+ * <p>По ID и телефону ключ столбца и номер строки упаковываются в один {@code long}
+ * (ключ — в старших битах, номер строки — в младших), и один примитивный массив
+ * сортируется поразрядно только по битам ключа, за линейное время. Поразрядная сортировка
+ * стабильна, поэтому равные по полю строки остаются в исходном порядке. По имени номера
+ * строк сортируются слиянием со сравнением имен прямо в общем массиве символов таблицы.
+ *
+ * <p>Затем все столбцы переставляются по полученному порядку одним последовательным проходом.
+ * Порядок совпадает с {@code MergeSortDynamicStrategy(field, ascending)} на тех же клиентах.
+ */
+public class ColumnSortStrategy {
+    /** Диапазоны не длиннее этого сортируются вставками. */
+    private static final int INSERTION_SORT_CUTOFF = 16;
+
+    /** Сколько младших бит составного ключа занимает номер строки. */
+    private static final int ROW_BITS = 31;
+
+    /** Сколько младших бит составного ключа по телефону занимает номер строки. */
+    private static final int PHONE_ROW_BITS = 29;
+
+    /** Наибольший упакованный телефон. */
+    private static final long MAX_PHONE_KEY = 9_999_999_999L;
+
+    /** Сколько бит занимает ключ ID. */
+    private static final int ID_KEY_BITS = Integer.SIZE;
+
+    private final Field field;
+    private final boolean ascending;
+
+    public ColumnSortStrategy() {
+        this(Field.ID_NUMBER, true);
+    }
+
+    /**
+     * @throws IllegalArgumentException если поле не хранится в таблице отдельным столбцом
+     */
+    public ColumnSortStrategy(Field field, boolean ascending) {
+        if (field != Field.ID_NUMBER && field != Field.PHONE_NUMBER && field != Field.NAME) {
+            throw new IllegalArgumentException("Сортировка по столбцам не поддерживает поле: " + field);
+        }
+        this.field = field;
+        this.ascending = ascending;
+    }
+
+    public void sort(ClientTable table) {
+        if (table == null || table.size() <= 1) {
+            return;
+        }
+        table.reorder(order(table));
+    }
+
+    /**
+     * Номера строк таблицы в порядке сортировки.
+     */
+    int[] order(ClientTable table) {
+        return switch (field) {
+            case ID_NUMBER -> orderById(table);
+            case PHONE_NUMBER -> orderByPhone(table);
+            default -> orderByName(table);
+        };
+    }
+
+    private int[] orderById(ClientTable table) {
+        int size = table.size();
+        int[] ids = table.idColumn();
+        long[] keys = new long[size];
+        for (int row = 0; row < size; row++) {
+            int key = ascending ? RadixSorts.ascendingKey(ids[row]) : RadixSorts.descendingKey(ids[row]);
+            keys[row] = (key & 0xFFFFFFFFL) << ROW_BITS | row;
+        }
+        return rowsOf(keys, ROW_BITS, ID_KEY_BITS);
+    }
+
+    private int[] orderByPhone(ClientTable table) {
+        int size = table.size();
+        long[] phones = table.phoneColumn();
+        long[] keys = new long[size];
+        for (int row = 0; row < size; row++) {
+            long key = ascending ? phones[row] : MAX_PHONE_KEY - phones[row];
+            keys[row] = key << PHONE_ROW_BITS | row;
+        }
+        return rowsOf(keys, PHONE_ROW_BITS, PhoneRadixSortStrategy.PHONE_KEY_BITS);
+    }
+
+    private static int[] rowsOf(long[] keys, int rowBits, int keyBits) {
+        RadixSorts.sortLongKeyBits(keys, keys.length, rowBits, rowBits + keyBits);
+        long rowMask = (1L << rowBits) - 1;
+        int[] rows = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            rows[i] = (int) (keys[i] & rowMask);
+        }
+        return rows;
+    }
+
+    private int[] orderByName(ClientTable table) {
+        int size = table.size();
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            rows[row] = row;
+        }
+        mergeSort(Arrays.copyOf(rows, size), rows, 0, size, table);
+        return rows;
+    }
+
+    private int compareNames(ClientTable table, int row1, int row2) {
+        int comparison = table.compareNames(row1, row2);
+        return ascending ? comparison : -comparison;
+    }
+
+    /**
+     * Сортирует {@code [from, to)} в {@code dest}, используя {@code src} как буфер.
+     */
+    private void mergeSort(int[] src, int[] dest, int from, int to, ClientTable table) {
+        if (to - from <= INSERTION_SORT_CUTOFF) {
+            for (int i = from + 1; i < to; i++) {
+                int current = dest[i];
+                int j = i - 1;
+                while (j >= from && compareNames(table, dest[j], current) > 0) {
+                    dest[j + 1] = dest[j];
+                    j--;
+                }
+                dest[j + 1] = current;
+            }
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(dest, src, from, mid, table);
+        mergeSort(dest, src, mid, to, table);
+
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid && compareNames(table, src[i], src[j]) <= 0)) {
+                dest[k] = src[i++];
+            } else {
+                dest[k] = src[j++];
+            }
+        }
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    public String getStrategyName() {
+        return "Column Sort (сортировка столбцовой таблицы по полю " + field + ", "
+                + (ascending ? "по возрастанию" : "по убыванию") + ")";
+    }
+}
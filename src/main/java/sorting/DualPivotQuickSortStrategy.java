@@ -0,0 +1,212 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+
+import java.util.Comparator;
+
+/**
+ * Быстрая сортировка с двумя опорными элементами прямо во внутреннем массиве коллекции.
+ *
+ * <p><b>Сортировка нестабильна:</b> равные по компаратору клиенты могут поменяться местами.
+ * Она предназначена для порядков с практически уникальными ключами (ID, телефон),
+ * где стабильность ничего не дает. Для остальных порядков используйте сортировку слиянием.
+ *
+ * <p>Массив делится двумя опорными элементами на три части (меньше первого, между ними,
+ * больше второго) без вспомогательного буфера и копирований. Если средняя часть велика,
+ * равные опорным элементы сначала отодвигаются к ее краям, чтобы повторы не замедляли сортировку.
+ * Короткие участки сортируются вставками. Глубина рекурсии ограничена {@code 2·log₂ n};
+ * при превышении участок досортировывается пирамидальной сортировкой, поэтому
+ * худший случай — {@code O(n log n)}, как в интроспективной сортировке.
+ *
+ * <p>Сравнений выполняется больше, чем при слиянии, поэтому выигрыш по времени есть
+ * при дешевом сравнении (ID); для строковых ключей (телефон) главное преимущество —
+ * отсутствие буфера из {@code n} ссылок.
+ */
+public class DualPivotQuickSortStrategy implements SortingStrategy {
+    /** Участки короче этого сортируются вставками. */
+    static final int INSERTION_SORT_THRESHOLD = 27;
+
+    private final Comparator<Client> comparator;
+
+    /**
+     * Создает стратегию с порядком по ID по возрастанию.
+     */
+    public DualPivotQuickSortStrategy() {
+        this(Field.ID_NUMBER, true);
+    }
+
+    public DualPivotQuickSortStrategy(Field field, boolean ascending) {
+        this(SortSpec.of(field, ascending).toComparator());
+    }
+
+    public DualPivotQuickSortStrategy(Comparator<Client> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Компаратор не может быть null");
+        }
+        this.comparator = comparator;
+    }
+
+    @Override
+    public void sort(CustomCollection<Client> clients) {
+        if (clients == null || clients.size() <= 1) {
+            return;
+        }
+        int size = clients.size();
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(size));
+        new Sorter(clients.getElements(), comparator).sort(0, size - 1, depthLimit);
+    }
+
+    /**
+     * Сортирует по возрастанию ID только клиентов с четным ID, как и остальные стратегии.
+     */
+    @Override
+    public void sortEvenValuesOnly(CustomCollection<Client> clients) {
+        new IdRadixSortStrategy().sortEvenValuesOnly(clients);
+    }
+
+    @Override
+    public Comparator<Client> getOrdering() {
+        return comparator;
+    }
+
+    @Override
+    public boolean isStable() {
+        return false;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Dual-Pivot Quick Sort (быстрая сортировка с двумя опорными элементами, нестабильная)";
+    }
+
+    private static final class Sorter {
+        private final Object[] a;
+        private final Comparator<Client> comparator;
+
+        Sorter(Object[] a, Comparator<Client> comparator) {
+            this.a = a;
+            this.comparator = comparator;
+        }
+
+        private int compare(Object first, Object second) {
+            return comparator.compare((Client) first, (Client) second);
+        }
+
+        private void swap(int i, int j) {
+            Object swap = a[i];
+            a[i] = a[j];
+            a[j] = swap;
+        }
+
+        /**
+         * Сортирует диапазон {@code [left, right]} включительно.
+         */
+        void sort(int left, int right, int depthLimit) {
+            int length = right - left + 1;
+            if (length < INSERTION_SORT_THRESHOLD) {
+                insertionSort(left, right);
+                return;
+            }
+            if (depthLimit == 0) {
+                heapSort(left, right);
+                return;
+            }
+
+            // Опорные элементы — трети диапазона, меньший из них ставится в начало
+            int third = length / 3;
+            int m1 = left + third;
+            int m2 = right - third;
+            if (compare(a[m1], a[m2]) > 0) {
+                swap(m1, m2);
+            }
+            swap(m1, left);
+            swap(m2, right);
+            Object pivot1 = a[left];
+            Object pivot2 = a[right];
+
+            int less = left + 1;
+            int great = right - 1;
+            for (int k = less; k <= great; k++) {
+                if (compare(a[k], pivot1) < 0) {
+                    swap(k, less++);
+                } else if (compare(a[k], pivot2) > 0) {
+                    while (k < great && compare(a[great], pivot2) > 0) {
+                        great--;
+                    }
+                    swap(k, great--);
+                    if (compare(a[k], pivot1) < 0) {
+                        swap(k, less++);
+                    }
+                }
+            }
+            swap(less - 1, left);
+            swap(great + 1, right);
+
+            sort(left, less - 2, depthLimit - 1);
+            sort(great + 2, right, depthLimit - 1);
+
+            // Опорные равны — все элементы между ними тоже равны
+            if (compare(pivot1, pivot2) == 0) {
+                return;
+            }
+
+            if (great - less > length * 2 / 3) {
+                for (int k = less; k <= great; k++) {
+                    if (compare(a[k], pivot1) == 0) {
+                        swap(k, less++);
+                    } else if (compare(a[k], pivot2) == 0) {
+                        while (k < great && compare(a[great], pivot2) == 0) {
+                            great--;
+                        }
+                        swap(k, great--);
+                        if (compare(a[k], pivot1) == 0) {
+                            swap(k, less++);
+                        }
+                    }
+                }
+            }
+            sort(less, great, depthLimit - 1);
+        }
+
+        private void insertionSort(int left, int right) {
+            for (int i = left + 1; i <= right; i++) {
+                Object current = a[i];
+                int j = i - 1;
+                while (j >= left && compare(a[j], current) > 0) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = current;
+            }
+        }
+
+        private void heapSort(int left, int right) {
+            int length = right - left + 1;
+            for (int i = length / 2 - 1; i >= 0; i--) {
+                siftDown(left, i, length);
+            }
+            for (int end = length - 1; end > 0; end--) {
+                swap(left, left + end);
+                siftDown(left, 0, end);
+            }
+        }
+
+        private void siftDown(int offset, int root, int length) {
+            Object value = a[offset + root];
+            int child;
+            while ((child = 2 * root + 1) < length) {
+                if (child + 1 < length && compare(a[offset + child + 1], a[offset + child]) > 0) {
+                    child++;
+                }
+                if (compare(value, a[offset + child]) >= 0) {
+                    break;
+                }
+                a[offset + root] = a[offset + child];
+                root = child;
+            }
+            a[offset + root] = value;
+        }
+    }
+}
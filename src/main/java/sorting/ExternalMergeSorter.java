@@ -0,0 +1,341 @@
+package sorting;
+
+import dto.Client;
+import input.CustomCollection;
+import input.strategy.FileReaderStrategy;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Внешняя сортировка файла клиентов, который не помещается в память.
+ *
+ * <p>Файл читается построчно в формате {@link FileReaderStrategy} ({@code Имя|Телефон|ID}).
+ * Клиенты накапливаются порциями, пока их оценочный размер не превысит бюджет памяти.
+ * Каждая порция сортируется {@link NaturalMergeSortStrategy} и сбрасывается во временный
+ * файл (серию). Затем серии сливаются k-путевым слиянием на куче: не более
+ * {@code fanIn} серий за раз, при необходимости в несколько проходов. Результат
+ * записывается в том же формате, поэтому его можно снова загрузить из файла.
+ *
+ * <p>Некорректные строки пропускаются так же, как при обычной загрузке из файла.
+ * Сортировка стабильна: равные клиенты сохраняют порядок исходного файла.
+ */
+public class ExternalMergeSorter {
+    /** Бюджет памяти по умолчанию на одну порцию клиентов. */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+    /** Количество серий, сливаемых за один проход, по умолчанию. */
+    public static final int DEFAULT_FAN_IN = 64;
+
+    /** Оценка накладных расходов на объект клиента, две строки и ссылку в коллекции. */
+    private static final int CLIENT_OVERHEAD_BYTES = 120;
+
+    private final Comparator<Client> comparator;
+    private final long memoryBudget;
+    private final int fanIn;
+    private final Path tempDirectory;
+
+    /**
+     * Создает сортировщик с порядком по умолчанию (имя -> ID -> телефон) и параметрами по умолчанию.
+     */
+    public ExternalMergeSorter() {
+        this(new MergeSortDefaultStrategy().getComparator(), DEFAULT_MEMORY_BUDGET, DEFAULT_FAN_IN);
+    }
+
+    public ExternalMergeSorter(Comparator<Client> comparator, long memoryBudget, int fanIn) {
+        this(comparator, memoryBudget, fanIn, null);
+    }
+
+    /**
+     * @param comparator    порядок сортировки
+     * @param memoryBudget  оценочный объем памяти в байтах на одну порцию клиентов
+     * @param fanIn         сколько серий сливается за один проход (не меньше 2)
+     * @param tempDirectory каталог для временных серий; {@code null} — системный временный каталог
+     * @throws IllegalArgumentException если параметры некорректны
+     */
+    public ExternalMergeSorter(Comparator<Client> comparator, long memoryBudget, int fanIn, Path tempDirectory) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Компаратор не может быть null");
+        }
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Бюджет памяти должен быть больше нуля");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("Количество сливаемых серий не может быть меньше 2");
+        }
+        this.comparator = comparator;
+        this.memoryBudget = memoryBudget;
+        this.fanIn = fanIn;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Сортирует клиентов из входного файла и записывает их в выходной.
+     *
+     * @param input  файл клиентов в формате {@code Имя|Телефон|ID}
+     * @param output файл для результата; перезаписывается
+     * @return количество записанных клиентов
+     * @throws IOException если возникла ошибка чтения или записи
+     */
+    public long sort(Path input, Path output) throws IOException {
+        if (!Files.exists(input)) {
+            throw new IOException("Файл не найден: " + input);
+        }
+
+        FileReaderStrategy parser = new FileReaderStrategy(input.toString());
+        List<Path> runs = new ArrayList<>();
+        List<Path> temporaryFiles = new ArrayList<>();
+        long total = 0;
+        Throwable failure = null;
+
+        try {
+            CustomCollection<Client> chunk = new CustomCollection<>();
+            long chunkBytes = 0;
+
+            try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.trim().isEmpty()) {
+                        continue;
+                    }
+                    Optional<Client.ClientBuilder> builder = parser.parseToClient(line);
+                    if (builder.isEmpty()) {
+                        continue;
+                    }
+
+                    chunk.add(builder.get().build());
+                    chunkBytes += CLIENT_OVERHEAD_BYTES + 2L * line.length();
+                    total++;
+
+                    if (chunkBytes >= memoryBudget) {
+                        runs.add(spillRun(chunk, temporaryFiles));
+                        chunk = new CustomCollection<>();
+                        chunkBytes = 0;
+                    }
+                }
+            }
+
+            // Все клиенты поместились в одну порцию — временные файлы не нужны
+            if (runs.isEmpty()) {
+                new NaturalMergeSortStrategy(comparator).sort(chunk);
+                try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                    for (Client client : chunk) {
+                        writeClient(writer, client);
+                    }
+                }
+                return total;
+            }
+
+            if (!chunk.isEmpty()) {
+                runs.add(spillRun(chunk, temporaryFiles));
+            }
+
+            while (runs.size() > fanIn) {
+                List<Path> merged = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += fanIn) {
+                    List<Path> group = runs.subList(from, Math.min(from + fanIn, runs.size()));
+                    Path run = createRunFile(temporaryFiles);
+                    mergeRuns(group, run);
+                    // Файлы, которые не удалось удалить здесь, повторно удаляются при общей очистке
+                    deleteAll(group, null);
+                    merged.add(run);
+                }
+                runs = merged;
+            }
+
+            mergeRuns(runs, output);
+            return total;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            deleteAll(temporaryFiles, failure);
+        }
+    }
+
+    private Path spillRun(CustomCollection<Client> chunk, List<Path> temporaryFiles) throws IOException {
+        new NaturalMergeSortStrategy(comparator).sort(chunk);
+
+        Path run = createRunFile(temporaryFiles);
+        try (BufferedWriter writer = Files.newBufferedWriter(run, StandardCharsets.UTF_8)) {
+            for (Client client : chunk) {
+                writeClient(writer, client);
+            }
+        }
+        return run;
+    }
+
+    private Path createRunFile(List<Path> temporaryFiles) throws IOException {
+        Path run = tempDirectory == null
+                ? Files.createTempFile("clients-run-", ".txt")
+                : Files.createTempFile(tempDirectory, "clients-run-", ".txt");
+        temporaryFiles.add(run);
+        return run;
+    }
+
+    /**
+     * Сливает серии в один файл. Куча упорядочена по клиенту, а при равенстве —
+     * по номеру серии: серии идут в порядке исходного файла, что сохраняет стабильность.
+     */
+    private void mergeRuns(List<Path> runs, Path output) throws IOException {
+        PriorityQueue<RunCursor> heap = new PriorityQueue<>(runs.size(), (cursor1, cursor2) -> {
+            int comparison = comparator.compare(cursor1.current, cursor2.current);
+            return comparison != 0 ? comparison : Integer.compare(cursor1.order, cursor2.order);
+        });
+
+        List<BufferedReader> readers = new ArrayList<>();
+        Throwable failure = null;
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < runs.size(); i++) {
+                BufferedReader reader = Files.newBufferedReader(runs.get(i), StandardCharsets.UTF_8);
+                readers.add(reader);
+                RunCursor cursor = new RunCursor(reader, i);
+                if (cursor.advance()) {
+                    heap.add(cursor);
+                }
+            }
+
+            while (!heap.isEmpty()) {
+                RunCursor cursor = heap.poll();
+                writeClient(writer, cursor.current);
+                if (cursor.advance()) {
+                    heap.add(cursor);
+                }
+            }
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            closeAll(readers, failure);
+        }
+    }
+
+    /**
+     * Закрывает все ресурсы, даже если закрытие некоторых не удалось. Ошибки закрытия
+     * добавляются как подавленные к {@code failure} — основной ошибке, из-за которой
+     * выполняется очистка. Если основной ошибки нет, выбрасывается первая ошибка закрытия
+     * с остальными в качестве подавленных.
+     *
+     * @throws IOException если закрыть не удалось, а основной ошибки нет
+     */
+    static void closeAll(List<? extends Closeable> resources, Throwable failure) throws IOException {
+        IOException closeFailure = null;
+        for (Closeable resource : resources) {
+            try {
+                resource.close();
+            } catch (IOException e) {
+                if (failure != null) {
+                    failure.addSuppressed(e);
+                } else if (closeFailure == null) {
+                    closeFailure = e;
+                } else {
+                    closeFailure.addSuppressed(e);
+                }
+            }
+        }
+        if (closeFailure != null) {
+            throw closeFailure;
+        }
+    }
+
+    /**
+     * Записывает клиента строкой в формате {@code Имя|Телефон|ID}.
+     */
+    static void writeClient(BufferedWriter writer, Client client) throws IOException {
+        writer.write(client.getName());
+        writer.write('|');
+        writer.write(client.getPhoneNumber());
+        writer.write('|');
+        writer.write(Integer.toString(client.getIdNumber()));
+        writer.newLine();
+    }
+
+    /**
+     * Читает клиента из строки серии, записанной {@link #writeClient}. Строки серий получены
+     * из уже проверенных клиентов, поэтому повторная проверка регулярными выражениями
+     * не нужна: строка делится по двум разделителям {@code |}.
+     *
+     * @throws IOException если строка не соответствует формату серии
+     */
+    static Client readClient(String line) throws IOException {
+        int first = line.indexOf('|');
+        int second = line.indexOf('|', first + 1);
+        if (first < 0 || second < 0) {
+            throw new IOException("Поврежденная строка файла серии: " + line);
+        }
+        try {
+            return new Client.ClientBuilder()
+                    .name(line.substring(0, first))
+                    .phoneNumber(line.substring(first + 1, second))
+                    .idNumber(Integer.parseInt(line, second + 1, line.length(), 10))
+                    .build();
+        } catch (NumberFormatException e) {
+            throw new IOException("Поврежденная строка файла серии: " + line, e);
+        }
+    }
+
+    /**
+     * Удаляет все файлы, даже если удаление некоторых не удалось. Ошибки удаления
+     * обрабатываются так же, как ошибки закрытия в {@link #closeAll}: добавляются
+     * к основной ошибке {@code failure} как подавленные или, если ее нет, выбрасываются.
+     *
+     * @throws IOException если удалить не удалось, а основной ошибки нет
+     */
+    static void deleteAll(List<Path> files, Throwable failure) throws IOException {
+        IOException deleteFailure = null;
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                if (failure != null) {
+                    failure.addSuppressed(e);
+                } else if (deleteFailure == null) {
+                    deleteFailure = e;
+                } else {
+                    deleteFailure.addSuppressed(e);
+                }
+            }
+        }
+        if (deleteFailure != null) {
+            throw deleteFailure;
+        }
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public int getFanIn() {
+        return fanIn;
+    }
+
+    /**
+     * Текущая позиция чтения одной серии.
+     */
+    private static final class RunCursor {
+        private final BufferedReader reader;
+        private final int order;
+        private Client current;
+
+        RunCursor(BufferedReader reader, int order) {
+            this.reader = reader;
+            this.order = order;
+        }
+
+        boolean advance() throws IOException {
+            String line = reader.readLine();
+            current = line == null ? null : readClient(line);
+            return current != null;
+        }
+    }
+}
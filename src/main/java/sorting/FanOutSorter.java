@@ -0,0 +1,114 @@
+package sorting;
+
+import dto.Client;
+import input.CustomCollection;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Выгрузка одного набора клиентов сразу в нескольких порядках.
+ *
+ * <p>Коллекция один раз копируется в неизменяемый снимок. Для каждого порядка
+ * в отдельном потоке сортируется своя перестановка номеров {@code int[]} над этим снимком,
+ * после чего клиенты в этом порядке записываются в свой файл. Сами клиенты не копируются
+ * и не переставляются, поэтому порядки не мешают друг другу, а исходная коллекция не меняется.
+ *
+ * <p>Файлы пишутся в формате {@code Имя|Телефон|ID}, как у {@link ExternalMergeSorter},
+ * и могут быть снова загружены из файла. Сортировка каждого порядка стабильна.
+ */
+public class FanOutSorter {
+    private final int threads;
+
+    /**
+     * Создает сортировщик с числом потоков по количеству процессоров.
+     */
+    public FanOutSorter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param threads наибольшее количество одновременно сортируемых порядков
+     * @throws IllegalArgumentException если количество потоков меньше 1
+     */
+    public FanOutSorter(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Количество потоков должно быть больше нуля");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Сортирует клиентов в каждом из порядков и записывает результат в соответствующий файл.
+     *
+     * @param clients исходная коллекция; не изменяется
+     * @param outputs порядок сортировки и файл для него; файлы перезаписываются
+     * @throws IOException              если возникла ошибка записи
+     * @throws IllegalArgumentException если порядки не заданы
+     */
+    public void sort(CustomCollection<Client> clients, Map<SortSpec, Path> outputs) throws IOException {
+        if (outputs == null || outputs.isEmpty()) {
+            throw new IllegalArgumentException("Не задано ни одного порядка сортировки");
+        }
+
+        Object[] snapshot = clients == null ? new Object[0] : clients.stream().toArray();
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(threads, outputs.size()));
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Map.Entry<SortSpec, Path> output : outputs.entrySet()) {
+                Comparator<Client> comparator = output.getKey().toComparator();
+                Path path = output.getValue();
+                futures.add(executorService.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws IOException {
+                        writeSorted(snapshot, comparator, path);
+                        return null;
+                    }
+                }));
+            }
+
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static void writeSorted(Object[] snapshot, Comparator<Client> comparator, Path output) throws IOException {
+        int[] permutation = new int[snapshot.length];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = i;
+        }
+        PermutationIndex.sortIndices(permutation, snapshot, comparator);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            for (int index : permutation) {
+                ExternalMergeSorter.writeClient(writer, (Client) snapshot[index]);
+            }
+        }
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+}
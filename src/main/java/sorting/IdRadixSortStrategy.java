@@ -0,0 +1,74 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+
+import java.util.Comparator;
+
+/**
+ * Сортировка клиентов по {@code idNumber} без сравнений.
+ *
+ * <p>Ключи один раз извлекаются в примитивный массив {@code int[]}, поэтому
+ * при сортировке нет ни упаковки в {@link Integer}, ни вызовов компаратора.
+ * Если ID лежат в узком диапазоне (например, 0..1000, как у
+ * {@link input.strategy.RandomDataGeneratorStrategy}), используется сортировка подсчетом,
+ * иначе — стабильная LSD-сортировка по байтам, корректная для всего диапазона {@code int},
+ * включая отрицательные значения. В обоих случаях время сортировки линейно.
+ *
+ * <p>Сортировка стабильна и дает тот же порядок, что и
+ * {@code MergeSortDynamicStrategy(Field.ID_NUMBER, ascending)}.
+ */
+public class IdRadixSortStrategy implements SortingStrategy {
+    private final boolean ascending;
+
+    public IdRadixSortStrategy() {
+        this(true);
+    }
+
+    public IdRadixSortStrategy(boolean ascending) {
+        this.ascending = ascending;
+    }
+
+    @Override
+    public void sort(CustomCollection<Client> clients) {
+        if (clients == null || clients.size() <= 1) {
+            return;
+        }
+        sortElements(clients.getElements(), clients.size(), ascending);
+    }
+
+    /**
+     * Сортирует по возрастанию ID только клиентов с четным ID,
+     * остальные остаются на своих местах.
+     */
+    @Override
+    public void sortEvenValuesOnly(CustomCollection<Client> clients) {
+        PredicateScopedSorter.sortMatching(clients, PredicateScopedSorter.EVEN_ID,
+                evenClients -> sortElements(evenClients.getElements(), evenClients.size(), true));
+    }
+
+    private static void sortElements(Object[] elements, int size, boolean ascending) {
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            int id = ((Client) elements[i]).getIdNumber();
+            keys[i] = ascending ? RadixSorts.ascendingKey(id) : RadixSorts.descendingKey(id);
+        }
+        RadixSorts.sortByIntKeys(elements, keys, size);
+    }
+
+    @Override
+    public Comparator<Client> getOrdering() {
+        return SortSpec.of(Field.ID_NUMBER, ascending).toComparator();
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "ID Radix Sort (поразрядная сортировка по ID, "
+                + (ascending ? "по возрастанию" : "по убыванию") + ")";
+    }
+}
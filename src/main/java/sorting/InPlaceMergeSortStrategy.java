@@ -0,0 +1,286 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+
+import java.util.Comparator;
+
+/**
+ * Стабильная сортировка слиянием почти без дополнительной памяти.
+ *
+ * <p>Обычная сортировка слиянием держит вспомогательный массив из {@code n} ссылок, что
+ * удваивает пиковый расход памяти на ссылки. Здесь коллекция сортируется на месте:
+ * участки по {@value #RUN_LENGTH} элементов сортируются вставками, затем сливаются
+ * восходящими проходами. Слияние выполняется алгоритмом SymMerge: бинарным поиском
+ * находится точка разреза, части меняются местами поворотом (тремя разворотами)
+ * и рекурсивно сливаются. Если меньшая из сливаемых частей помещается в небольшой буфер
+ * (по умолчанию около {@code √n} ссылок), она сливается обычным линейным способом через буфер.
+ *
+ * <p>Время — {@code O(n log² n)} в худшем случае, то есть медленнее
+ * {@link MergeSortDynamicStrategy}, зато дополнительная память — {@code O(√n)}.
+ * {@link SortingManager#sortAdaptive} выбирает эту стратегию, когда свободной памяти мало.
+ *
+ * <p>Сортировка стабильна.
+ */
+public class InPlaceMergeSortStrategy extends AbstractMergeSortStrategy {
+    /** Длина базового участка, сортируемого вставками. */
+    static final int RUN_LENGTH = 32;
+
+    /** Буфер по умолчанию: около {@code √n} ссылок. */
+    static final int DEFAULT_BUFFER_SIZE = -1;
+
+    private final Comparator<Client> comparator;
+    private final int bufferSize;
+
+    /**
+     * Создает стратегию с порядком по умолчанию (имя -> ID -> телефон).
+     */
+    public InPlaceMergeSortStrategy() {
+        this(new MergeSortDefaultStrategy().getComparator());
+    }
+
+    public InPlaceMergeSortStrategy(Field field, boolean ascending) {
+        this(new MergeSortDynamicStrategy(field, ascending).getComparator());
+    }
+
+    public InPlaceMergeSortStrategy(Comparator<Client> comparator) {
+        this(comparator, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param comparator порядок сортировки
+     * @param bufferSize размер буфера слияния в ссылках; {@code 0} — слияние только поворотами,
+     *                   {@value #DEFAULT_BUFFER_SIZE} — около {@code √n}
+     * @throws IllegalArgumentException если компаратор равен {@code null} или размер буфера некорректен
+     */
+    public InPlaceMergeSortStrategy(Comparator<Client> comparator, int bufferSize) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Компаратор не может быть null");
+        }
+        if (bufferSize < DEFAULT_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Размер буфера не может быть отрицательным");
+        }
+        this.comparator = comparator;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void sort(CustomCollection<Client> clients) {
+        sortWithComparator(clients, getComparator());
+    }
+
+    @Override
+    public void sortWithComparator(CustomCollection<Client> clients, Comparator<Client> comparator) {
+        if (clients == null || clients.size() <= 1) {
+            return;
+        }
+
+        Object[] elements = clients.getElements();
+        int size = clients.size();
+
+        // Границы считаются через остаток size - from: from + шаг может переполнить int
+        for (int from = 0; from < size; ) {
+            int to = size - from <= RUN_LENGTH ? size : from + RUN_LENGTH;
+            insertionSort(elements, from, to, comparator);
+            from = to;
+        }
+        if (size <= RUN_LENGTH) {
+            return;
+        }
+
+        int capacity = bufferSize == DEFAULT_BUFFER_SIZE ? (int) Math.sqrt(size) : bufferSize;
+        Merger merger = new Merger(elements, comparator, new Object[capacity]);
+        for (int width = RUN_LENGTH; ; width <<= 1) {
+            for (int from = 0; size - from > width; ) {
+                int mid = from + width;
+                int to = size - mid <= width ? size : mid + width;
+                merger.merge(from, mid, to);
+                from = to;
+            }
+
+            // Участок удвоенной ширины уже покрывает весь массив; проверка без удвоения width
+            if (width >= size - width) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    protected Comparator<Client> getComparator() {
+        return comparator;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "In-Place Merge Sort (сортировка слиянием на месте)";
+    }
+
+    /**
+     * Слияние соседних упорядоченных участков внутри одного массива.
+     */
+    private static final class Merger {
+        private final Object[] a;
+        private final Comparator<Client> comparator;
+        private final Object[] buffer;
+
+        Merger(Object[] a, Comparator<Client> comparator, Object[] buffer) {
+            this.a = a;
+            this.comparator = comparator;
+            this.buffer = buffer;
+        }
+
+        private boolean less(int i, int j) {
+            return comparator.compare((Client) a[i], (Client) a[j]) < 0;
+        }
+
+        /**
+         * Сливает упорядоченные участки {@code [from, mid)} и {@code [mid, to)}.
+         */
+        void merge(int from, int mid, int to) {
+            if (from >= mid || mid >= to || !less(mid, mid - 1)) {
+                return;
+            }
+            if (mid - from <= buffer.length) {
+                mergeLow(from, mid, to);
+            } else if (to - mid <= buffer.length) {
+                mergeHigh(from, mid, to);
+            } else {
+                symMerge(from, mid, to);
+            }
+        }
+
+        /**
+         * Левая часть копируется в буфер и сливается слева направо.
+         */
+        private void mergeLow(int from, int mid, int to) {
+            int length = mid - from;
+            System.arraycopy(a, from, buffer, 0, length);
+            int i = 0;
+            int j = mid;
+            int k = from;
+            while (i < length && j < to) {
+                if (comparator.compare((Client) a[j], (Client) buffer[i]) < 0) {
+                    a[k++] = a[j++];
+                } else {
+                    a[k++] = buffer[i++];
+                }
+            }
+            System.arraycopy(buffer, i, a, k, length - i);
+            clearBuffer(length);
+        }
+
+        /**
+         * Правая часть копируется в буфер и сливается справа налево.
+         */
+        private void mergeHigh(int from, int mid, int to) {
+            int length = to - mid;
+            System.arraycopy(a, mid, buffer, 0, length);
+            int i = mid - 1;
+            int j = length - 1;
+            int k = to - 1;
+            while (i >= from && j >= 0) {
+                if (comparator.compare((Client) buffer[j], (Client) a[i]) < 0) {
+                    a[k--] = a[i--];
+                } else {
+                    a[k--] = buffer[j--];
+                }
+            }
+            System.arraycopy(buffer, 0, a, k - j, j + 1);
+            clearBuffer(length);
+        }
+
+        private void clearBuffer(int length) {
+            // Буфер не должен удерживать ссылки на клиентов после сортировки
+            for (int i = 0; i < length; i++) {
+                buffer[i] = null;
+            }
+        }
+
+        /**
+         * SymMerge: находит разрез, при котором поворот {@code [start, end)} вокруг {@code mid}
+         * сводит задачу к двум независимым слияниям меньшего размера.
+         */
+        private void symMerge(int from, int mid, int to) {
+            if (mid - from == 1) {
+                // Один элемент слева: вставляем его после всех строго меньших справа
+                int low = mid;
+                int high = to;
+                while (low < high) {
+                    int h = (low + high) >>> 1;
+                    if (less(h, from)) {
+                        low = h + 1;
+                    } else {
+                        high = h;
+                    }
+                }
+                rotate(from, mid, low);
+                return;
+            }
+            if (to - mid == 1) {
+                // Один элемент справа: вставляем его перед всеми строго большими слева
+                int low = from;
+                int high = mid;
+                while (low < high) {
+                    int h = (low + high) >>> 1;
+                    if (!less(mid, h)) {
+                        low = h + 1;
+                    } else {
+                        high = h;
+                    }
+                }
+                rotate(low, mid, to);
+                return;
+            }
+
+            int half = (from + to) >>> 1;
+            int n = half + mid;
+            int start;
+            int r;
+            if (mid > half) {
+                start = n - to;
+                r = half;
+            } else {
+                start = from;
+                r = mid;
+            }
+            int p = n - 1;
+            while (start < r) {
+                int c = (start + r) >>> 1;
+                if (!less(p - c, c)) {
+                    start = c + 1;
+                } else {
+                    r = c;
+                }
+            }
+
+            int end = n - start;
+            if (start < mid && mid < end) {
+                rotate(start, mid, end);
+            }
+            if (from < start && start < half) {
+                merge(from, start, half);
+            }
+            if (half < end && end < to) {
+                merge(half, end, to);
+            }
+        }
+
+        /**
+         * Меняет местами соседние участки {@code [from, mid)} и {@code [mid, to)} тремя разворотами.
+         */
+        private void rotate(int from, int mid, int to) {
+            reverse(from, mid - 1);
+            reverse(mid, to - 1);
+            reverse(from, to - 1);
+        }
+
+        private void reverse(int i, int j) {
+            while (i < j) {
+                Object swap = a[i];
+                a[i++] = a[j];
+                a[j--] = swap;
+            }
+        }
+    }
+}
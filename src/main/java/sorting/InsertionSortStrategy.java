@@ -0,0 +1,61 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+
+import java.util.Comparator;
+
+/**
+ * Сортировка вставками без вспомогательных массивов.
+ *
+ * <p>На коротких коллекциях (до нескольких десятков элементов) обгоняет сортировку слиянием:
+ * нет рекурсии, буфера и копирований. Время растет квадратично, поэтому для больших
+ * коллекций эту стратегию выбирать не стоит.
+ *
+ * <p>Сортировка стабильна.
+ */
+public class InsertionSortStrategy extends AbstractMergeSortStrategy {
+    private final Comparator<Client> comparator;
+
+    /**
+     * Создает стратегию с порядком по умолчанию (имя -> ID -> телефон).
+     */
+    public InsertionSortStrategy() {
+        this(new MergeSortDefaultStrategy().getComparator());
+    }
+
+    public InsertionSortStrategy(Field field, boolean ascending) {
+        this(new MergeSortDynamicStrategy(field, ascending).getComparator());
+    }
+
+    public InsertionSortStrategy(Comparator<Client> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Компаратор не может быть null");
+        }
+        this.comparator = comparator;
+    }
+
+    @Override
+    public void sort(CustomCollection<Client> clients) {
+        sortWithComparator(clients, getComparator());
+    }
+
+    @Override
+    public void sortWithComparator(CustomCollection<Client> clients, Comparator<Client> comparator) {
+        if (clients == null || clients.size() <= 1) {
+            return;
+        }
+        insertionSort(clients.getElements(), 0, clients.size(), comparator);
+    }
+
+    @Override
+    protected Comparator<Client> getComparator() {
+        return comparator;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Insertion Sort (сортировка вставками)";
+    }
+}
@@ -1,28 +1,27 @@
 package sorting;
 
 import dto.Client;
+import enums.Field;
 import input.CustomCollection;
 
 import java.util.Comparator;
 
 public class MergeSortDefaultStrategy extends AbstractMergeSortStrategy {
 
+    /** Порядок по умолчанию: имя, затем ID, затем телефон. */
+    public static final SortSpec DEFAULT_ORDER = new SortSpec.Builder()
+            .then(Field.NAME, true)
+            .then(Field.ID_NUMBER, true)
+            .then(Field.PHONE_NUMBER, true)
+            .build();
+
     @Override
     public void sort(CustomCollection<Client> clients) {
         sortWithComparator(clients, getComparator());
     }
 
     protected Comparator<Client> getComparator() {
-        return (c1, c2) -> {
-            int nameComparison = c1.getName().compareTo(c2.getName());
-            if (nameComparison != 0) return nameComparison;
-
-            int idComparison = Integer.compare(c1.getIdNumber(), c2.getIdNumber());
-            if (idComparison != 0) return idComparison;
-
-            return c1.getPhoneNumber().compareTo(c2.getPhoneNumber());
-        };
-
+        return DEFAULT_ORDER.toComparator();
     }
 
     @Override
@@ -7,12 +7,22 @@ import input.CustomCollection;
 import java.util.Comparator;
 
 public class MergeSortDynamicStrategy extends AbstractMergeSortStrategy{
-    private final Field field;
-    private final boolean ascending;
+    private final SortSpec sortSpec;
 
     public MergeSortDynamicStrategy(Field field, boolean ascending) {
-        this.field = field;
-        this.ascending = ascending;
+        this(SortSpec.of(field, ascending));
+    }
+
+    /**
+     * Создает стратегию с многоключевым порядком, например «телефон по убыванию, затем имя».
+     *
+     * @param sortSpec спецификация порядка сортировки
+     */
+    public MergeSortDynamicStrategy(SortSpec sortSpec) {
+        if (sortSpec == null) {
+            throw new IllegalArgumentException("Спецификация сортировки не может быть null");
+        }
+        this.sortSpec = sortSpec;
     }
 
     @Override
@@ -21,22 +31,16 @@ public class MergeSortDynamicStrategy extends AbstractMergeSortStrategy{
     }
 
     public Comparator<Client> getComparator(){
-        Comparator<Client> comparator = switch (field){
-            case NAME -> Comparator.comparing(Client :: getName);
-            case ID_NUMBER -> Comparator.comparing(Client :: getIdNumber);
-            case PHONE_NUMBER -> Comparator.comparing(Client :: getPhoneNumber);
-            default -> throw new IllegalArgumentException("Неизвестное поле: " + field);
-        };
-
-        if (ascending) {
-            return comparator;
-        } else {
-            return comparator.reversed();
-        }
+        return sortSpec.toComparator();
+    }
+
+    public SortSpec getSortSpec() {
+        return sortSpec;
     }
 
     @Override
     public String getStrategyName() {
-        return "Dynamic Merge Sort (Динамическая сортировка по: " + field + ")";
+        Object order = sortSpec.size() == 1 ? sortSpec.getField(0) : sortSpec;
+        return "Dynamic Merge Sort (Динамическая сортировка по: " + order + ")";
     }
 }
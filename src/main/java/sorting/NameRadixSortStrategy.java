@@ -0,0 +1,203 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+
+import java.util.Comparator;
+
+/**
+ * MSD-сортировка клиентов по имени для кириллического алфавита.
+ *
+ * <p>Имена проходят валидацию по шаблону {@code ^([А-ЯЁ][а-яё]+\s){1,2}[А-ЯЁ][а-яё]+$},
+ * поэтому алфавит мал: 66 букв и пробел. Клиенты раскладываются по корзинам
+ * по очередному символу имени, и каждая корзина сортируется рекурсивно
+ * со следующего символа. Общий префикс имен в корзине больше не сравнивается,
+ * что и делает сортировку быстрее сравнения строк целиком. Корзины упорядочены
+ * по кодам символов, поэтому итоговый порядок совпадает с {@link String#compareTo}
+ * ({@code Ё} идет перед {@code А}, {@code ё} — после {@code я}).
+ * Маленькие корзины досортировываются вставками.
+ *
+ * <p>Сортировка стабильна. Если в именах встречается символ вне алфавита,
+ * выполняется обычная сортировка слиянием по строкам.
+ */
+public class NameRadixSortStrategy implements SortingStrategy {
+    /** Размер корзины, начиная с которого она досортировывается вставками. */
+    static final int INSERTION_SORT_CUTOFF = 16;
+
+    /** Корзина конца строки: короткое имя идет раньше своего продолжения. */
+    private static final int END_OF_NAME = 0;
+    private static final int SPACE = 1;
+    private static final int UPPER_YO = 2;
+    private static final int FIRST_LETTER = 3;
+    private static final int LOWER_YO = FIRST_LETTER + ('я' - 'А' + 1);
+
+    /** Количество корзин: конец строки, пробел, Ё, А..я, ё. */
+    private static final int RADIX = LOWER_YO + 1;
+
+    private final boolean ascending;
+
+    public NameRadixSortStrategy() {
+        this(true);
+    }
+
+    public NameRadixSortStrategy(boolean ascending) {
+        this.ascending = ascending;
+    }
+
+    /**
+     * Номер корзины символа в порядке кодов или {@code -1} для символа вне алфавита.
+     */
+    static int bucketOf(char symbol) {
+        if (symbol >= 'А' && symbol <= 'я') {
+            return FIRST_LETTER + (symbol - 'А');
+        }
+        return switch (symbol) {
+            case ' ' -> SPACE;
+            case 'Ё' -> UPPER_YO;
+            case 'ё' -> LOWER_YO;
+            default -> -1;
+        };
+    }
+
+    @Override
+    public void sort(CustomCollection<Client> clients) {
+        if (clients == null || clients.size() <= 1) {
+            return;
+        }
+
+        Object[] elements = clients.getElements();
+        int size = clients.size();
+        String[] names = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            String name = ((Client) elements[i]).getName();
+            if (!isInAlphabet(name)) {
+                new MergeSortDynamicStrategy(Field.NAME, ascending).sort(clients);
+                return;
+            }
+            names[i] = name;
+        }
+
+        new Sorter(elements, names, ascending).sort(0, size, 0);
+    }
+
+    private static boolean isInAlphabet(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (bucketOf(name.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Сортирует по возрастанию ID только клиентов с четным ID, как и остальные стратегии.
+     */
+    @Override
+    public void sortEvenValuesOnly(CustomCollection<Client> clients) {
+        new IdRadixSortStrategy().sortEvenValuesOnly(clients);
+    }
+
+    @Override
+    public Comparator<Client> getOrdering() {
+        return SortSpec.of(Field.NAME, ascending).toComparator();
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Name MSD Radix Sort (поразрядная сортировка по имени, "
+                + (ascending ? "по возрастанию" : "по убыванию") + ")";
+    }
+
+    /**
+     * Состояние одной сортировки: имена лежат в отдельном массиве параллельно
+     * с клиентами, чтобы не обращаться к объектам {@link Client} на каждом символе.
+     */
+    private static final class Sorter {
+        private final Object[] elements;
+        private final String[] names;
+        private final boolean ascending;
+        private final Object[] elementsBuffer;
+        private final String[] namesBuffer;
+
+        Sorter(Object[] elements, String[] names, boolean ascending) {
+            this.elements = elements;
+            this.names = names;
+            this.ascending = ascending;
+            this.elementsBuffer = new Object[names.length];
+            this.namesBuffer = new String[names.length];
+        }
+
+        private int bucketAt(String name, int depth) {
+            int bucket = depth < name.length() ? bucketOf(name.charAt(depth)) : END_OF_NAME;
+            return ascending ? bucket : RADIX - 1 - bucket;
+        }
+
+        /**
+         * Сортирует диапазон {@code [from, to)}, все имена в котором совпадают в первых {@code depth} символах.
+         */
+        void sort(int from, int to, int depth) {
+            if (to - from <= INSERTION_SORT_CUTOFF) {
+                insertionSort(from, to, depth);
+                return;
+            }
+
+            int[] starts = new int[RADIX + 1];
+            for (int i = from; i < to; i++) {
+                starts[bucketAt(names[i], depth) + 1]++;
+            }
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                starts[bucket + 1] += starts[bucket];
+            }
+
+            int[] cursors = starts.clone();
+            for (int i = from; i < to; i++) {
+                int target = cursors[bucketAt(names[i], depth)]++;
+                namesBuffer[target] = names[i];
+                elementsBuffer[target] = elements[i];
+            }
+            System.arraycopy(namesBuffer, 0, names, from, to - from);
+            System.arraycopy(elementsBuffer, 0, elements, from, to - from);
+
+            int endOfNameBucket = ascending ? END_OF_NAME : RADIX - 1;
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                // Имена, закончившиеся на этой глубине, равны между собой и уже стоят в исходном порядке
+                if (bucket != endOfNameBucket && starts[bucket + 1] - starts[bucket] > 1) {
+                    sort(from + starts[bucket], from + starts[bucket + 1], depth + 1);
+                }
+            }
+        }
+
+        private void insertionSort(int from, int to, int depth) {
+            for (int i = from + 1; i < to; i++) {
+                String name = names[i];
+                Object element = elements[i];
+                int j = i - 1;
+                while (j >= from && compareFrom(names[j], name, depth) > 0) {
+                    names[j + 1] = names[j];
+                    elements[j + 1] = elements[j];
+                    j--;
+                }
+                names[j + 1] = name;
+                elements[j + 1] = element;
+            }
+        }
+
+        private int compareFrom(String first, String second, int depth) {
+            int limit = Math.min(first.length(), second.length());
+            for (int i = depth; i < limit; i++) {
+                int difference = first.charAt(i) - second.charAt(i);
+                if (difference != 0) {
+                    return ascending ? difference : -difference;
+                }
+            }
+            int difference = first.length() - second.length();
+            return ascending ? difference : -difference;
+        }
+    }
+}
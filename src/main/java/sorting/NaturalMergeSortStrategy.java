@@ -0,0 +1,420 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+
+import java.util.Comparator;
+
+/**
+ * Адаптивная сортировка естественными сериями (в духе TimSort).
+ *
+ * <p>Алгоритм проходит по коллекции и находит уже упорядоченные участки (серии).
+ * Строго убывающие серии разворачиваются, короткие серии дополняются до
+ * минимальной длины бинарными вставками. Серии складываются в стек и сливаются
+ * так, чтобы их длины оставались сбалансированными. При слиянии используется
+ * режим «галопа»: если одна из серий долго выигрывает сравнения, ее элементы
+ * переносятся целыми блоками, найденными экспоненциальным поиском.
+ *
+ * <p>Уже отсортированная коллекция обрабатывается за один линейный проход,
+ * почти отсортированная — за время, близкое к линейному. Сортировка стабильна
+ * и подходит для любого компаратора: и для {@link MergeSortDefaultStrategy},
+ * и для {@link MergeSortDynamicStrategy}.
+ */
+public class NaturalMergeSortStrategy extends AbstractMergeSortStrategy {
+    /** Коллекции короче этой длины сортируются бинарными вставками целиком. */
+    static final int MIN_MERGE = 32;
+
+    /** Сколько побед подряд одной серии включает режим галопа. */
+    private static final int MIN_GALLOP = 7;
+
+    private final Comparator<Client> comparator;
+
+    /**
+     * Создает стратегию с порядком по умолчанию (имя -> ID -> телефон).
+     */
+    public NaturalMergeSortStrategy() {
+        this(new MergeSortDefaultStrategy().getComparator());
+    }
+
+    /**
+     * Создает стратегию с сортировкой по одному полю.
+     *
+     * @param field     поле для сортировки
+     * @param ascending {@code true} для сортировки по возрастанию
+     */
+    public NaturalMergeSortStrategy(Field field, boolean ascending) {
+        this(new MergeSortDynamicStrategy(field, ascending).getComparator());
+    }
+
+    public NaturalMergeSortStrategy(Comparator<Client> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Компаратор не может быть null");
+        }
+        this.comparator = comparator;
+    }
+
+    @Override
+    public void sort(CustomCollection<Client> clients) {
+        sortWithComparator(clients, getComparator());
+    }
+
+    @Override
+    public void sortWithComparator(CustomCollection<Client> clients, Comparator<Client> comparator) {
+        if (clients == null || clients.size() <= 1) {
+            return;
+        }
+        sortRange(clients.getElements(), 0, clients.size(), comparator);
+    }
+
+    /**
+     * Сортирует диапазон {@code a[from, to)} естественными сериями.
+     */
+    static void sortRange(Object[] a, int from, int to, Comparator<Client> comparator) {
+        int remaining = to - from;
+        if (remaining < 2) {
+            return;
+        }
+
+        if (remaining < MIN_MERGE) {
+            int initRunLength = countRunAndMakeAscending(a, from, to, comparator);
+            binaryInsertionSort(a, from, to, from + initRunLength, comparator);
+            return;
+        }
+
+        RunMerger merger = new RunMerger(a, remaining, comparator);
+        int minRun = minRunLength(remaining);
+        int low = from;
+
+        do {
+            int runLength = countRunAndMakeAscending(a, low, to, comparator);
+
+            // Короткую серию дополняем до minRun бинарными вставками
+            if (runLength < minRun) {
+                int forced = Math.min(remaining, minRun);
+                binaryInsertionSort(a, low, low + forced, low + runLength, comparator);
+                runLength = forced;
+            }
+
+            merger.pushRun(low, runLength);
+            merger.mergeCollapse();
+
+            low += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+
+        merger.mergeForceCollapse();
+    }
+
+    /**
+     * Находит длину серии, начинающейся с {@code from}. Строго убывающая серия
+     * разворачивается на месте; нестрогую не трогаем, чтобы не нарушить стабильность.
+     */
+    static int countRunAndMakeAscending(Object[] a, int from, int to, Comparator<Client> comparator) {
+        int runEnd = from + 1;
+        if (runEnd == to) {
+            return 1;
+        }
+
+        if (comparator.compare((Client) a[runEnd++], (Client) a[from]) < 0) {
+            while (runEnd < to && comparator.compare((Client) a[runEnd], (Client) a[runEnd - 1]) < 0) {
+                runEnd++;
+            }
+            reverseRange(a, from, runEnd);
+        } else {
+            while (runEnd < to && comparator.compare((Client) a[runEnd], (Client) a[runEnd - 1]) >= 0) {
+                runEnd++;
+            }
+        }
+
+        return runEnd - from;
+    }
+
+    private static void reverseRange(Object[] a, int from, int to) {
+        to--;
+        while (from < to) {
+            Object swap = a[from];
+            a[from++] = a[to];
+            a[to--] = swap;
+        }
+    }
+
+    /**
+     * Сортирует {@code a[from, to)} бинарными вставками, считая {@code a[from, start)} уже упорядоченным.
+     * Новый элемент встает после всех равных ему, что сохраняет стабильность.
+     */
+    private static void binaryInsertionSort(Object[] a, int from, int to, int start,
+                                            Comparator<Client> comparator) {
+        if (start == from) {
+            start++;
+        }
+        for (; start < to; start++) {
+            Client pivot = (Client) a[start];
+            int left = from;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (comparator.compare(pivot, (Client) a[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(a, left, a, left + 1, start - left);
+            a[left] = pivot;
+        }
+    }
+
+    /**
+     * Минимальная длина серии: число из диапазона [16, 32], при котором
+     * количество серий равно или чуть меньше степени двойки.
+     */
+    private static int minRunLength(int length) {
+        int lowBit = 0;
+        while (length >= MIN_MERGE) {
+            lowBit |= (length & 1);
+            length >>= 1;
+        }
+        return length + lowBit;
+    }
+
+    /**
+     * Количество элементов в {@code a[base, base + length)}, строго меньших {@code key}
+     * (или не больших, если {@code inclusive}). Экспоненциальный поиск начинается
+     * с начала диапазона либо с конца, если {@code fromEnd}.
+     */
+    static int gallop(Client key, Object[] a, int base, int length, boolean inclusive,
+                      boolean fromEnd, Comparator<Client> comparator) {
+        int low;
+        int high;
+        if (!fromEnd) {
+            low = 0;
+            int offset = 1;
+            while (offset > 0 && offset <= length
+                    && precedes((Client) a[base + offset - 1], key, inclusive, comparator)) {
+                low = offset;
+                offset <<= 1;
+            }
+            high = offset > 0 ? Math.min(offset - 1, length) : length;
+        } else {
+            high = length;
+            int offset = 1;
+            while (offset > 0 && offset <= length
+                    && !precedes((Client) a[base + length - offset], key, inclusive, comparator)) {
+                high = length - offset;
+                offset <<= 1;
+            }
+            low = offset > 0 ? Math.max(length - offset + 1, 0) : 0;
+        }
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (precedes((Client) a[base + mid], key, inclusive, comparator)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean precedes(Client element, Client key, boolean inclusive,
+                                    Comparator<Client> comparator) {
+        int comparison = comparator.compare(element, key);
+        return inclusive ? comparison <= 0 : comparison < 0;
+    }
+
+    @Override
+    protected Comparator<Client> getComparator() {
+        return comparator;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Natural Merge Sort (адаптивная сортировка естественными сериями)";
+    }
+
+    /**
+     * Стек серий и общий буфер слияния на время одной сортировки.
+     * Буфер выделяется один раз: сливаемая копия всегда не длиннее половины диапазона.
+     */
+    private static final class RunMerger {
+        private final Object[] a;
+        private final Comparator<Client> comparator;
+        private final Object[] buffer;
+
+        private final int[] runBase = new int[49];
+        private final int[] runLength = new int[49];
+        private int stackSize = 0;
+
+        RunMerger(Object[] a, int length, Comparator<Client> comparator) {
+            this.a = a;
+            this.comparator = comparator;
+            this.buffer = new Object[(length >>> 1) + 1];
+        }
+
+        void pushRun(int base, int length) {
+            runBase[stackSize] = base;
+            runLength[stackSize] = length;
+            stackSize++;
+        }
+
+        /**
+         * Сливает серии на вершине стека, пока их длины не удовлетворяют инвариантам:
+         * каждая серия длиннее суммы двух следующих и длиннее следующей.
+         */
+        void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Сливает серии {@code i} и {@code i + 1} стека.
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+
+            // Начало первой серии, не превосходящее первый элемент второй, уже на месте
+            int skipped = gallop((Client) a[base2], a, base1, length1, true, false, comparator);
+            base1 += skipped;
+            length1 -= skipped;
+            if (length1 == 0) {
+                return;
+            }
+
+            // Аналогично, хвост второй серии не меньше последнего элемента первой
+            length2 = gallop((Client) a[base1 + length1 - 1], a, base2, length2, false, true, comparator);
+            if (length2 == 0) {
+                return;
+            }
+
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Слияние слева направо: первая (более короткая) серия копируется в буфер.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            System.arraycopy(a, base1, buffer, 0, length1);
+
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int end2 = base2 + length2;
+            int dest = base1;
+            int wins1 = 0;
+            int wins2 = 0;
+
+            while (cursor1 < length1 && cursor2 < end2) {
+                if (comparator.compare((Client) a[cursor2], (Client) buffer[cursor1]) < 0) {
+                    a[dest++] = a[cursor2++];
+                    wins2++;
+                    wins1 = 0;
+                } else {
+                    a[dest++] = buffer[cursor1++];
+                    wins1++;
+                    wins2 = 0;
+                }
+
+                if (wins1 >= MIN_GALLOP && cursor1 < length1 && cursor2 < end2) {
+                    int count = gallop((Client) a[cursor2], buffer, cursor1, length1 - cursor1,
+                            true, false, comparator);
+                    System.arraycopy(buffer, cursor1, a, dest, count);
+                    dest += count;
+                    cursor1 += count;
+                    wins1 = 0;
+                } else if (wins2 >= MIN_GALLOP && cursor1 < length1 && cursor2 < end2) {
+                    int count = gallop((Client) buffer[cursor1], a, cursor2, end2 - cursor2,
+                            false, false, comparator);
+                    System.arraycopy(a, cursor2, a, dest, count);
+                    dest += count;
+                    cursor2 += count;
+                    wins2 = 0;
+                }
+            }
+
+            // Остаток второй серии уже стоит на своем месте
+            System.arraycopy(buffer, cursor1, a, dest, length1 - cursor1);
+        }
+
+        /**
+         * Слияние справа налево: вторая (более короткая) серия копируется в буфер.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            System.arraycopy(a, base2, buffer, 0, length2);
+
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int dest = base2 + length2 - 1;
+            int wins1 = 0;
+            int wins2 = 0;
+
+            while (cursor1 >= base1 && cursor2 >= 0) {
+                if (comparator.compare((Client) buffer[cursor2], (Client) a[cursor1]) < 0) {
+                    a[dest--] = a[cursor1--];
+                    wins1++;
+                    wins2 = 0;
+                } else {
+                    a[dest--] = buffer[cursor2--];
+                    wins2++;
+                    wins1 = 0;
+                }
+
+                if (wins1 >= MIN_GALLOP && cursor1 >= base1 && cursor2 >= 0) {
+                    // Элементы первой серии, строго большие текущего из второй
+                    int available = cursor1 - base1 + 1;
+                    int count = available - gallop((Client) buffer[cursor2], a, base1, available,
+                            true, true, comparator);
+                    System.arraycopy(a, cursor1 - count + 1, a, dest - count + 1, count);
+                    dest -= count;
+                    cursor1 -= count;
+                    wins1 = 0;
+                } else if (wins2 >= MIN_GALLOP && cursor1 >= base1 && cursor2 >= 0) {
+                    // Элементы второй серии, не меньшие текущего из первой
+                    int count = cursor2 + 1 - gallop((Client) a[cursor1], buffer, 0, cursor2 + 1,
+                            false, true, comparator);
+                    System.arraycopy(buffer, cursor2 - count + 1, a, dest - count + 1, count);
+                    dest -= count;
+                    cursor2 -= count;
+                    wins2 = 0;
+                }
+            }
+
+            // Остаток первой серии уже стоит на своем месте
+            System.arraycopy(buffer, 0, a, dest - cursor2, cursor2 + 1);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Параллельная сортировка слиянием на {@link ForkJoinPool}.
+ *
+ * <p>Диапазоны длиннее порога делятся пополам и сортируются параллельно,
+ * короткие диапазоны сортируются последовательно той же сортировкой слиянием,
+ * что и в {@link AbstractMergeSortStrategy}. Слияние тоже параллельное:
+ * середина большей половины находит бинарным поиском свою позицию в меньшей,
+ * после чего левая и правая части сливаются независимо. Поэтому последние,
+ * самые крупные слияния не выполняются в одном потоке.
+ *
+ * <p>Сортировка стабильна, результат совпадает с последовательной стратегией
+ * с тем же компаратором.
+ */
+public class ParallelMergeSortStrategy extends AbstractMergeSortStrategy {
+    /** Порог по умолчанию, ниже которого диапазон обрабатывается последовательно. */
+    static final int DEFAULT_THRESHOLD = 8192;
+
+    private final Comparator<Client> comparator;
+    private final int threshold;
+    private final ForkJoinPool pool;
+
+    /**
+     * Создает стратегию с порядком по умолчанию (имя -> ID -> телефон).
+     */
+    public ParallelMergeSortStrategy() {
+        this(new MergeSortDefaultStrategy().getComparator());
+    }
+
+    /**
+     * Создает стратегию с сортировкой по одному полю.
+     *
+     * @param field     поле для сортировки
+     * @param ascending {@code true} для сортировки по возрастанию
+     */
+    public ParallelMergeSortStrategy(Field field, boolean ascending) {
+        this(new MergeSortDynamicStrategy(field, ascending).getComparator());
+    }
+
+    public ParallelMergeSortStrategy(Comparator<Client> comparator) {
+        this(comparator, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param comparator компаратор, задающий порядок
+     * @param threshold  размер диапазона, ниже которого сортировка и слияние идут последовательно
+     * @throws IllegalArgumentException если компаратор равен {@code null} или порог меньше 2
+     */
+    public ParallelMergeSortStrategy(Comparator<Client> comparator, int threshold) {
+        this(comparator, threshold, ForkJoinPool.commonPool());
+    }
+
+    public ParallelMergeSortStrategy(Comparator<Client> comparator, int threshold, ForkJoinPool pool) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Компаратор не может быть null");
+        }
+        if (threshold < 2) {
+            throw new IllegalArgumentException("Порог параллельной сортировки не может быть меньше 2");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Пул потоков не может быть null");
+        }
+        this.comparator = comparator;
+        this.threshold = threshold;
+        this.pool = pool;
+    }
+
+    @Override
+    public void sort(CustomCollection<Client> clients) {
+        sortWithComparator(clients, getComparator());
+    }
+
+    @Override
+    public void sortWithComparator(CustomCollection<Client> clients, Comparator<Client> comparator) {
+        if (clients == null || clients.size() <= 1) {
+            return;
+        }
+
+        Object[] elements = clients.getElements();
+        Object[] buffer = Arrays.copyOf(elements, clients.size());
+
+        if (clients.size() <= threshold) {
+            mergeSort(buffer, elements, 0, clients.size(), comparator);
+        } else {
+            pool.invoke(new SortTask(buffer, elements, 0, clients.size(), comparator, threshold));
+        }
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    protected Comparator<Client> getComparator() {
+        return comparator;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Parallel Merge Sort (параллельная сортировка слиянием, порог: " + threshold + ")";
+    }
+
+    /**
+     * Сортирует {@code [from, to)} в {@code dest}, используя {@code src} как буфер
+     * (с тем же контрактом, что и {@link AbstractMergeSortStrategy#mergeSort}).
+     */
+    private static final class SortTask extends RecursiveAction {
+        private final Object[] src;
+        private final Object[] dest;
+        private final int from;
+        private final int to;
+        private final Comparator<Client> comparator;
+        private final int threshold;
+
+        SortTask(Object[] src, Object[] dest, int from, int to, Comparator<Client> comparator, int threshold) {
+            this.src = src;
+            this.dest = dest;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                mergeSort(src, dest, from, to, comparator);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(dest, src, from, mid, comparator, threshold),
+                    new SortTask(dest, src, mid, to, comparator, threshold));
+
+            new MergeTask(src, from, mid, mid, to, dest, from, comparator, threshold).compute();
+        }
+    }
+
+    /**
+     * Сливает {@code src[from1, to1)} и {@code src[from2, to2)} в {@code dest}, начиная с {@code destFrom}.
+     */
+    private static final class MergeTask extends RecursiveAction {
+        private final Object[] src;
+        private final int from1;
+        private final int to1;
+        private final int from2;
+        private final int to2;
+        private final Object[] dest;
+        private final int destFrom;
+        private final Comparator<Client> comparator;
+        private final int threshold;
+
+        MergeTask(Object[] src, int from1, int to1, int from2, int to2, Object[] dest, int destFrom,
+                  Comparator<Client> comparator, int threshold) {
+            this.src = src;
+            this.from1 = from1;
+            this.to1 = to1;
+            this.from2 = from2;
+            this.to2 = to2;
+            this.dest = dest;
+            this.destFrom = destFrom;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = to1 - from1;
+            int length2 = to2 - from2;
+
+            if (length1 + length2 <= threshold) {
+                mergeSequentially();
+                return;
+            }
+
+            int split1;
+            int split2;
+            int pivot;
+            if (length1 >= length2) {
+                // Середина левой части: правые элементы, равные ей, должны идти после нее
+                pivot = (from1 + to1) >>> 1;
+                split1 = pivot;
+                split2 = bound((Client) src[pivot], from2, to2, false);
+            } else {
+                // Середина правой части: левые элементы, равные ей, должны идти перед ней
+                pivot = (from2 + to2) >>> 1;
+                split2 = pivot;
+                split1 = bound((Client) src[pivot], from1, to1, true);
+            }
+
+            int pivotDest = destFrom + (split1 - from1) + (split2 - from2);
+            dest[pivotDest] = src[pivot];
+
+            boolean pivotFromLeft = length1 >= length2;
+            invokeAll(
+                    new MergeTask(src, from1, split1, from2, split2, dest, destFrom, comparator, threshold),
+                    new MergeTask(src, pivotFromLeft ? split1 + 1 : split1, to1,
+                            pivotFromLeft ? split2 : split2 + 1, to2,
+                            dest, pivotDest + 1, comparator, threshold));
+        }
+
+        /**
+         * Первая позиция в {@code src[from, to)}, элемент на которой больше {@code key}
+         * (или не меньше, если {@code inclusive == false}).
+         */
+        private int bound(Client key, int from, int to, boolean inclusive) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                int comparison = comparator.compare((Client) src[mid], key);
+                if (comparison < 0 || inclusive && comparison == 0) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+
+        private void mergeSequentially() {
+            int i = from1;
+            int j = from2;
+            int k = destFrom;
+
+            while (i < to1 && j < to2) {
+                if (comparator.compare((Client) src[i], (Client) src[j]) <= 0) {
+                    dest[k++] = src[i++];
+                } else {
+                    dest[k++] = src[j++];
+                }
+            }
+            System.arraycopy(src, i, dest, k, to1 - i);
+            System.arraycopy(src, j, dest, k + (to1 - i), to2 - j);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import input.IntCustomCollection;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Индекс перестановок клиентов по каждому {@link Field}.
+ *
+ * <p>Клиенты хранятся в базовом массиве в порядке добавления; базовый массив только
+ * дополняется и никогда не переупорядочивается. Для каждого поля по первому запросу
+ * строится перестановка {@link IntCustomCollection}: номера клиентов базового массива в порядке
+ * возрастания поля. После этого показать или выгрузить клиентов в этом порядке —
+ * линейный проход по перестановке без сравнений, поэтому переключение между полями
+ * не требует повторной сортировки.
+ *
+ * <p>Добавленные клиенты вливаются в уже построенные перестановки при следующем запросе:
+ * сортируются только номера новых клиентов, после чего они сливаются с перестановкой
+ * с конца ее массива, без выделения новой перестановки. Равные по полю клиенты идут в порядке добавления.
+ */
+public class PermutationIndex {
+    /** Диапазоны не длиннее этого сортируются вставками. */
+    private static final int INSERTION_SORT_CUTOFF = 16;
+
+    private final CustomCollection<Client> base = new CustomCollection<>();
+    private final Map<Field, IntCustomCollection> permutations = new EnumMap<>(Field.class);
+
+    /** Коллекция, содержащая ровно клиентов индекса, или {@code null}. */
+    private CustomCollection<Client> source;
+
+    /** Счетчик изменений {@link #source} на момент синхронизации. */
+    private int sourceModCount;
+
+    public void add(Client client) {
+        base.add(client);
+    }
+
+    public void addAll(CustomCollection<Client> clients) {
+        base.addAll(clients);
+    }
+
+    /**
+     * Заменяет содержимое индекса клиентами из коллекции, сбрасывает все перестановки
+     * и запоминает коллекцию как синхронизированную с индексом. Если коллекция отмечена
+     * как упорядоченная по возрастанию поля, перестановка по этому полю сразу тождественна
+     * и не строится заново.
+     */
+    public void reset(CustomCollection<Client> clients) {
+        base.clear();
+        base.addAll(clients);
+        permutations.clear();
+        markSynced(clients);
+
+        for (Field field : Field.values()) {
+            if (clients.isSortedBy(SortSpec.of(field, true).toComparator())) {
+                IntCustomCollection identity = new IntCustomCollection(Math.max(base.size(), 1));
+                for (int i = 0; i < base.size(); i++) {
+                    identity.add(i);
+                }
+                permutations.put(field, identity);
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что коллекция — та, с которой индекс синхронизирован, и с тех пор не изменялась.
+     */
+    public boolean isSyncedWith(CustomCollection<Client> clients) {
+        return clients != null && clients == source && clients.getModCount() == sourceModCount;
+    }
+
+    /**
+     * Запоминает коллекцию как синхронизированную с индексом. Вызывающий гарантирует,
+     * что коллекция содержит ровно клиентов индекса, например после {@link #addAll}
+     * той же порции в индекс и в коллекцию.
+     *
+     * @throws IllegalArgumentException если размер коллекции не совпадает с размером индекса
+     */
+    public void markSynced(CustomCollection<Client> clients) {
+        if (clients == null || clients.size() != base.size()) {
+            throw new IllegalArgumentException("Размер коллекции должен совпадать с размером индекса");
+        }
+        source = clients;
+        sourceModCount = clients.getModCount();
+    }
+
+    public int size() {
+        return base.size();
+    }
+
+    /**
+     * Вызывает действие для каждого клиента в порядке возрастания поля.
+     */
+    public void forEachInOrder(Field field, Consumer<? super Client> action) {
+        IntCustomCollection permutation = permutation(field);
+        for (int i = 0; i < permutation.size(); i++) {
+            action.accept(base.get(permutation.get(i)));
+        }
+    }
+
+    /**
+     * Записывает клиентов в порядке возрастания поля в коллекцию того же размера
+     * и отмечает в ней этот порядок. После записи коллекция содержит ровно клиентов индекса
+     * и считается синхронизированной с ним.
+     *
+     * @throws IllegalArgumentException если размер коллекции не совпадает с размером индекса
+     */
+    public void copyInOrder(Field field, CustomCollection<Client> target) {
+        if (target == null || target.size() != base.size()) {
+            throw new IllegalArgumentException("Размер коллекции должен совпадать с размером индекса");
+        }
+
+        int[] permutation = permutation(field).getElements();
+        Object[] elements = base.readElements();
+        Object[] targetElements = target.getElements();
+        for (int i = 0; i < base.size(); i++) {
+            targetElements[i] = elements[permutation[i]];
+        }
+        target.markSortedBy(SortSpec.of(field, true).toComparator());
+        markSynced(target);
+    }
+
+    /**
+     * Возвращает перестановку по полю, при необходимости строя или дополняя ее.
+     */
+    IntCustomCollection permutation(Field field) {
+        IntCustomCollection permutation = permutations.get(field);
+        int size = base.size();
+        if (permutation != null && permutation.size() == size) {
+            return permutation;
+        }
+
+        Object[] elements = base.readElements();
+        Comparator<Client> comparator = SortSpec.of(field, true).toComparator();
+        if (permutation == null) {
+            permutation = new IntCustomCollection(Math.max(size, 1));
+            permutations.put(field, permutation);
+        }
+        int known = permutation.size();
+
+        int[] added = new int[size - known];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = known + i;
+        }
+        sortIndices(added, elements, comparator);
+
+        permutation.addAll(added, 0, added.length);
+        if (known > 0) {
+            mergeAdded(permutation.getElements(), known, added, elements, comparator);
+        }
+        return permutation;
+    }
+
+    /**
+     * Сливает упорядоченные номера {@code added} с первыми {@code known} номерами перестановки
+     * с конца массива; при равенстве первыми идут уже известные номера.
+     */
+    private static void mergeAdded(int[] permutation, int known, int[] added, Object[] elements,
+                                   Comparator<Client> comparator) {
+        int i = known - 1;
+        int j = added.length - 1;
+        int k = known + added.length - 1;
+        while (j >= 0) {
+            if (i >= 0 && comparator.compare((Client) elements[permutation[i]], (Client) elements[added[j]]) > 0) {
+                permutation[k--] = permutation[i--];
+            } else {
+                permutation[k--] = added[j--];
+            }
+        }
+    }
+
+    /**
+     * Стабильная сортировка слиянием номеров клиентов с одним буфером на всю сортировку.
+     * Массив {@code elements} только читается, поэтому несколько перестановок
+     * над одним массивом можно сортировать одновременно.
+     */
+    static void sortIndices(int[] indices, Object[] elements, Comparator<Client> comparator) {
+        if (indices.length < 2) {
+            return;
+        }
+        int[] buffer = Arrays.copyOf(indices, indices.length);
+        mergeSort(buffer, indices, 0, indices.length, elements, comparator);
+    }
+
+    /**
+     * Сортирует {@code [from, to)} в {@code dest}, используя {@code src} как буфер.
+     */
+    private static void mergeSort(int[] src, int[] dest, int from, int to,
+                                  Object[] elements, Comparator<Client> comparator) {
+        if (to - from <= INSERTION_SORT_CUTOFF) {
+            for (int i = from + 1; i < to; i++) {
+                int current = dest[i];
+                int j = i - 1;
+                while (j >= from && comparator.compare((Client) elements[dest[j]], (Client) elements[current]) > 0) {
+                    dest[j + 1] = dest[j];
+                    j--;
+                }
+                dest[j + 1] = current;
+            }
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(dest, src, from, mid, elements, comparator);
+        mergeSort(dest, src, mid, to, elements, comparator);
+
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j >= to || (i < mid
+                    && comparator.compare((Client) elements[src[i]], (Client) elements[src[j]]) <= 0)) {
+                dest[k] = src[i++];
+            } else {
+                dest[k] = src[j++];
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+
+import java.util.Comparator;
+
+/**
+ * Сортировка клиентов по номеру телефона без сравнения строк.
+ *
+ * <p>Все телефоны, прошедшие валидацию в {@link input.strategy.FileReaderStrategy} и
+ * {@link input.strategy.ManualInputReaderStrategy}, имеют формат {@code +7XXXXXXXXXX},
+ * то есть по сути являются десятизначным числом. Каждый телефон один раз упаковывается
+ * в {@code long} (не более 34 бит), после чего выполняется стабильная поразрядная сортировка.
+ * Для строк одинаковой длины из цифр числовой порядок совпадает с {@link String#compareTo},
+ * поэтому результат идентичен {@code MergeSortDynamicStrategy(Field.PHONE_NUMBER, ascending)}.
+ *
+ * <p>Если в коллекции встретился телефон другого формата, сортировка выполняется
+ * обычной сортировкой слиянием по строкам.
+ */
+public class PhoneRadixSortStrategy implements SortingStrategy {
+    /** Количество цифр после префикса {@code +7}. */
+    private static final int PHONE_DIGITS = 10;
+
+    /** Наибольший упакованный телефон. */
+    private static final long MAX_PHONE_KEY = 9_999_999_999L;
+
+    /** Сколько бит занимает упакованный телефон. */
+    static final int PHONE_KEY_BITS = Long.SIZE - Long.numberOfLeadingZeros(MAX_PHONE_KEY);
+
+    private final boolean ascending;
+
+    public PhoneRadixSortStrategy() {
+        this(true);
+    }
+
+    public PhoneRadixSortStrategy(boolean ascending) {
+        this.ascending = ascending;
+    }
+
+    /**
+     * Упаковывает телефон формата {@code +7XXXXXXXXXX} в число из его десяти цифр.
+     *
+     * @param phoneNumber телефон клиента
+     * @return упакованный телефон или {@code -1}, если телефон не соответствует формату
+     */
+    public static long packPhone(String phoneNumber) {
+        if (phoneNumber == null || phoneNumber.length() != PHONE_DIGITS + 2
+                || phoneNumber.charAt(0) != '+' || phoneNumber.charAt(1) != '7') {
+            return -1;
+        }
+
+        long packed = 0;
+        for (int i = 2; i < phoneNumber.length(); i++) {
+            char digit = phoneNumber.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            packed = packed * 10 + (digit - '0');
+        }
+        return packed;
+    }
+
+    @Override
+    public void sort(CustomCollection<Client> clients) {
+        if (clients == null || clients.size() <= 1) {
+            return;
+        }
+
+        Object[] elements = clients.getElements();
+        int size = clients.size();
+        long[] keys = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            long packed = packPhone(((Client) elements[i]).getPhoneNumber());
+            if (packed < 0) {
+                new MergeSortDynamicStrategy(Field.PHONE_NUMBER, ascending).sort(clients);
+                return;
+            }
+            keys[i] = ascending ? packed : MAX_PHONE_KEY - packed;
+        }
+
+        RadixSorts.sortByLongKeys(elements, keys, size, PHONE_KEY_BITS);
+    }
+
+    /**
+     * Сортирует по возрастанию ID только клиентов с четным ID, как и остальные стратегии.
+     */
+    @Override
+    public void sortEvenValuesOnly(CustomCollection<Client> clients) {
+        new IdRadixSortStrategy().sortEvenValuesOnly(clients);
+    }
+
+    @Override
+    public Comparator<Client> getOrdering() {
+        return SortSpec.of(Field.PHONE_NUMBER, ascending).toComparator();
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Phone Radix Sort (поразрядная сортировка по телефону, "
+                + (ascending ? "по возрастанию" : "по убыванию") + ")";
+    }
+}
@@ -0,0 +1,129 @@
+package sorting;
+
+import dto.Client;
+import input.CustomCollection;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Сортировка только тех клиентов, которые удовлетворяют предикату.
+ * Остальные клиенты остаются на своих местах, а подходящие занимают
+ * их же позиции, но в отсортированном порядке.
+ *
+ * <p>Позиции подходящих клиентов запоминаются в битовой маске ({@code long[]}),
+ * поэтому индексы не упаковываются в {@link Integer} и не хранятся отдельным списком.
+ * Коллекция делится на блоки по {@value #WORDS_PER_BLOCK} слов маски; на больших
+ * коллекциях разметка, сбор и возврат элементов выполняются по блокам параллельно.
+ * Сортировка выбранных клиентов выполняется переданным действием.
+ *
+ * <p>На больших коллекциях предикат вызывается из нескольких потоков,
+ * поэтому он должен быть потокобезопасным.
+ */
+public final class PredicateScopedSorter {
+    /** Клиенты с четным ID — условие {@link SortingStrategy#sortEvenValuesOnly}. */
+    public static final Predicate<Client> EVEN_ID = client -> client.getIdNumber() % 2 == 0;
+
+    /** Размер коллекции, начиная с которого проходы выполняются параллельно. */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** Количество 64-битных слов маски в одном блоке. */
+    private static final int WORDS_PER_BLOCK = 256;
+
+    private PredicateScopedSorter() {
+    }
+
+    /**
+     * Сортирует клиентов, удовлетворяющих предикату, оставляя остальных на месте.
+     *
+     * @param clients   коллекция клиентов
+     * @param predicate условие, выбирающее сортируемых клиентов
+     * @param sorter    действие, сортирующее коллекцию выбранных клиентов на месте
+     */
+    public static void sortMatching(CustomCollection<Client> clients, Predicate<? super Client> predicate,
+                                    Consumer<CustomCollection<Client>> sorter) {
+        if (clients == null || clients.isEmpty()) {
+            return;
+        }
+
+        Object[] elements = clients.getElements();
+        int size = clients.size();
+        long[] matches = new long[(size + Long.SIZE - 1) >>> 6];
+        int blockCount = (matches.length + WORDS_PER_BLOCK - 1) / WORDS_PER_BLOCK;
+        boolean parallel = size >= PARALLEL_THRESHOLD;
+
+        // Проход 1: разметка и подсчет подходящих клиентов в каждом блоке
+        int[] blockOffsets = new int[blockCount + 1];
+        blocks(blockCount, parallel).forEach(block ->
+                blockOffsets[block + 1] = markBlock(elements, size, matches, block, predicate));
+
+        for (int block = 0; block < blockCount; block++) {
+            blockOffsets[block + 1] += blockOffsets[block];
+        }
+        int matchCount = blockOffsets[blockCount];
+        if (matchCount < 2) {
+            return;
+        }
+
+        // Проход 2: сбор подходящих клиентов в отдельный массив
+        Object[] selected = new Object[matchCount];
+        blocks(blockCount, parallel).forEach(block ->
+                transferBlock(elements, selected, matches, block, blockOffsets[block], true));
+
+        sorter.accept(CustomCollection.wrap(selected, matchCount));
+
+        // Проход 3: возврат отсортированных клиентов на отмеченные позиции
+        blocks(blockCount, parallel).forEach(block ->
+                transferBlock(elements, selected, matches, block, blockOffsets[block], false));
+    }
+
+    private static IntStream blocks(int blockCount, boolean parallel) {
+        IntStream blocks = IntStream.range(0, blockCount);
+        return parallel ? blocks.parallel() : blocks;
+    }
+
+    private static int markBlock(Object[] elements, int size, long[] matches, int block,
+                                 Predicate<? super Client> predicate) {
+        int fromWord = block * WORDS_PER_BLOCK;
+        int toWord = Math.min(fromWord + WORDS_PER_BLOCK, matches.length);
+        int count = 0;
+
+        for (int word = fromWord; word < toWord; word++) {
+            long bits = 0;
+            int base = word << 6;
+            int limit = Math.min(Long.SIZE, size - base);
+            for (int bit = 0; bit < limit; bit++) {
+                if (predicate.test((Client) elements[base + bit])) {
+                    bits |= 1L << bit;
+                }
+            }
+            matches[word] = bits;
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+
+    /**
+     * Переносит клиентов блока между коллекцией и массивом выбранных:
+     * при {@code gather} — из коллекции в массив, иначе обратно.
+     */
+    private static void transferBlock(Object[] elements, Object[] selected, long[] matches, int block,
+                                      int offset, boolean gather) {
+        int fromWord = block * WORDS_PER_BLOCK;
+        int toWord = Math.min(fromWord + WORDS_PER_BLOCK, matches.length);
+
+        for (int word = fromWord; word < toWord; word++) {
+            long bits = matches[word];
+            while (bits != 0) {
+                int position = (word << 6) + Long.numberOfTrailingZeros(bits);
+                if (gather) {
+                    selected[offset++] = elements[position];
+                } else {
+                    elements[position] = selected[offset++];
+                }
+                bits &= bits - 1;
+            }
+        }
+    }
+}
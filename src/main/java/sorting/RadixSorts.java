@@ -0,0 +1,230 @@
+package sorting;
+
+import java.util.Arrays;
+
+/**
+ * Вспомогательные поразрядные сортировки по примитивным ключам.
+ *
+ * <p>Ключи сортируются вместе с массивом ссылок: {@code keys[i]} — ключ элемента {@code elements[i]}.
+ * Все сортировки стабильны и сравнивают ключи как беззнаковые числа, поэтому вызывающий
+ * код сам приводит ключ к нужному порядку (см. {@link #ascendingKey(int)} и {@link #descendingKey(int)}).
+ */
+final class RadixSorts {
+    /** Диапазон ключей, при котором выгоднее сортировка подсчетом, чем поразрядная. */
+    static final int COUNTING_SORT_MAX_RANGE = 1 << 16;
+
+    private static final int BITS_PER_PASS = 8;
+    private static final int BUCKETS = 1 << BITS_PER_PASS;
+    private static final int MASK = BUCKETS - 1;
+
+    private static final int LONG_BITS_PER_PASS = 12;
+    private static final int LONG_BUCKETS = 1 << LONG_BITS_PER_PASS;
+    private static final int LONG_MASK = LONG_BUCKETS - 1;
+
+    private RadixSorts() {
+    }
+
+    /** Беззнаковый ключ, порядок которого совпадает с возрастанием {@code value}. */
+    static int ascendingKey(int value) {
+        return value ^ Integer.MIN_VALUE;
+    }
+
+    /** Беззнаковый ключ, порядок которого совпадает с убыванием {@code value}. */
+    static int descendingKey(int value) {
+        return ~(value ^ Integer.MIN_VALUE);
+    }
+
+    /**
+     * Стабильно сортирует первые {@code size} элементов по беззнаковым int-ключам.
+     * Если ключи лежат в узком диапазоне, используется сортировка подсчетом,
+     * иначе — LSD-сортировка по байтам с пропуском проходов, где все байты совпадают.
+     */
+    static void sortByIntKeys(Object[] elements, int[] keys, int size) {
+        if (size < 2) {
+            return;
+        }
+
+        int min = keys[0] ^ Integer.MIN_VALUE;
+        int max = min;
+        for (int i = 1; i < size; i++) {
+            int signed = keys[i] ^ Integer.MIN_VALUE;
+            if (signed < min) {
+                min = signed;
+            } else if (signed > max) {
+                max = signed;
+            }
+        }
+
+        long range = (long) max - min + 1;
+        if (range <= COUNTING_SORT_MAX_RANGE || range <= size) {
+            countingSort(elements, keys, size, min, (int) range);
+        } else {
+            lsdSort(elements, keys, size);
+        }
+    }
+
+    private static void countingSort(Object[] elements, int[] keys, int size, int min, int range) {
+        int[] starts = new int[range + 1];
+        for (int i = 0; i < size; i++) {
+            starts[((keys[i] ^ Integer.MIN_VALUE) - min) + 1]++;
+        }
+        for (int bucket = 0; bucket < range; bucket++) {
+            starts[bucket + 1] += starts[bucket];
+        }
+
+        Object[] sortedElements = new Object[size];
+        int[] sortedKeys = new int[size];
+        for (int i = 0; i < size; i++) {
+            int position = starts[(keys[i] ^ Integer.MIN_VALUE) - min]++;
+            sortedElements[position] = elements[i];
+            sortedKeys[position] = keys[i];
+        }
+
+        System.arraycopy(sortedElements, 0, elements, 0, size);
+        System.arraycopy(sortedKeys, 0, keys, 0, size);
+    }
+
+    private static void lsdSort(Object[] elements, int[] keys, int size) {
+        Object[] srcElements = elements;
+        int[] srcKeys = keys;
+        Object[] destElements = new Object[size];
+        int[] destKeys = new int[size];
+        int[] counts = new int[BUCKETS];
+
+        for (int shift = 0; shift < Integer.SIZE; shift += BITS_PER_PASS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++) {
+                counts[(srcKeys[i] >>> shift) & MASK]++;
+            }
+
+            // Все ключи имеют одинаковый байт — проход ничего не изменит
+            if (counts[(srcKeys[0] >>> shift) & MASK] == size) {
+                continue;
+            }
+
+            int position = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                int count = counts[bucket];
+                counts[bucket] = position;
+                position += count;
+            }
+
+            for (int i = 0; i < size; i++) {
+                int target = counts[(srcKeys[i] >>> shift) & MASK]++;
+                destElements[target] = srcElements[i];
+                destKeys[target] = srcKeys[i];
+            }
+
+            Object[] swapElements = srcElements;
+            srcElements = destElements;
+            destElements = swapElements;
+            int[] swapKeys = srcKeys;
+            srcKeys = destKeys;
+            destKeys = swapKeys;
+        }
+
+        if (srcElements != elements) {
+            System.arraycopy(srcElements, 0, elements, 0, size);
+            System.arraycopy(srcKeys, 0, keys, 0, size);
+        }
+    }
+
+    /**
+     * Стабильно сортирует первые {@code size} элементов по неотрицательным long-ключам,
+     * занимающим не более {@code keyBits} младших бит. LSD-сортировка идет
+     * по 12 бит за проход, поэтому, например, 34-битный ключ телефона сортируется за 3 прохода.
+     */
+    static void sortByLongKeys(Object[] elements, long[] keys, int size, int keyBits) {
+        if (size < 2) {
+            return;
+        }
+
+        Object[] srcElements = elements;
+        long[] srcKeys = keys;
+        Object[] destElements = new Object[size];
+        long[] destKeys = new long[size];
+        int[] counts = new int[LONG_BUCKETS];
+
+        for (int shift = 0; shift < keyBits; shift += LONG_BITS_PER_PASS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++) {
+                counts[(int) (srcKeys[i] >>> shift) & LONG_MASK]++;
+            }
+
+            if (counts[(int) (srcKeys[0] >>> shift) & LONG_MASK] == size) {
+                continue;
+            }
+
+            int position = 0;
+            for (int bucket = 0; bucket < LONG_BUCKETS; bucket++) {
+                int count = counts[bucket];
+                counts[bucket] = position;
+                position += count;
+            }
+
+            for (int i = 0; i < size; i++) {
+                int target = counts[(int) (srcKeys[i] >>> shift) & LONG_MASK]++;
+                destElements[target] = srcElements[i];
+                destKeys[target] = srcKeys[i];
+            }
+
+            Object[] swapElements = srcElements;
+            srcElements = destElements;
+            destElements = swapElements;
+            long[] swapKeys = srcKeys;
+            srcKeys = destKeys;
+            destKeys = swapKeys;
+        }
+
+        if (srcElements != elements) {
+            System.arraycopy(srcElements, 0, elements, 0, size);
+            System.arraycopy(srcKeys, 0, keys, 0, size);
+        }
+    }
+
+    /**
+     * Стабильно сортирует первые {@code size} long-ключей по битам {@code [fromBit, toBit)}.
+     * Младшие {@code fromBit} бит в сортировке не участвуют и переносятся вместе с ключом,
+     * поэтому в них можно хранить номер строки: при равных старших битах номера сохраняют
+     * исходный порядок.
+     */
+    static void sortLongKeyBits(long[] keys, int size, int fromBit, int toBit) {
+        if (size < 2) {
+            return;
+        }
+
+        long[] src = keys;
+        long[] dest = new long[size];
+        int[] counts = new int[LONG_BUCKETS];
+
+        for (int shift = fromBit; shift < toBit; shift += LONG_BITS_PER_PASS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++) {
+                counts[(int) (src[i] >>> shift) & LONG_MASK]++;
+            }
+
+            if (counts[(int) (src[0] >>> shift) & LONG_MASK] == size) {
+                continue;
+            }
+
+            int position = 0;
+            for (int bucket = 0; bucket < LONG_BUCKETS; bucket++) {
+                int count = counts[bucket];
+                counts[bucket] = position;
+                position += count;
+            }
+
+            for (int i = 0; i < size; i++) {
+                dest[counts[(int) (src[i] >>> shift) & LONG_MASK]++] = src[i];
+            }
+
+            long[] swap = src;
+            src = dest;
+            dest = swap;
+        }
+
+        if (src != keys) {
+            System.arraycopy(src, 0, keys, 0, size);
+        }
+    }
+}
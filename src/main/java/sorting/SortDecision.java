@@ -0,0 +1,81 @@
+package sorting;
+
+/**
+ * Результат выбора стратегии в адаптивном режиме {@link SortingManager#sortAdaptive}:
+ * замеренные характеристики коллекции, выбранная стратегия и причина выбора.
+ *
+ * <p>{@link #toString()} дает одну строку, пригодную для журнала.
+ */
+public final class SortDecision {
+    private final SortSpec sortSpec;
+    private final int size;
+    private final int runs;
+    private final int sampledKeys;
+    private final int distinctKeys;
+    private final SortingStrategy strategy;
+    private final String reason;
+
+    SortDecision(SortSpec sortSpec, int size, int runs, int sampledKeys, int distinctKeys,
+                 SortingStrategy strategy, String reason) {
+        this.sortSpec = sortSpec;
+        this.size = size;
+        this.runs = runs;
+        this.sampledKeys = sampledKeys;
+        this.distinctKeys = distinctKeys;
+        this.strategy = strategy;
+        this.reason = reason;
+    }
+
+    public SortSpec getSortSpec() {
+        return sortSpec;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Количество серий — неубывающих или строго убывающих участков, как их находит
+     * {@link NaturalMergeSortStrategy}. Одна серия означает, что коллекция уже упорядочена
+     * или упорядочена в обратном порядке.
+     */
+    public int getRuns() {
+        return runs;
+    }
+
+    /**
+     * Сколько ключей первого поля попало в выборку для оценки числа различных значений.
+     */
+    public int getSampledKeys() {
+        return sampledKeys;
+    }
+
+    public int getDistinctKeys() {
+        return distinctKeys;
+    }
+
+    /**
+     * Выбранная стратегия или {@code null}, если сортировка не понадобилась.
+     */
+    public SortingStrategy getStrategy() {
+        return strategy;
+    }
+
+    public boolean isSkipped() {
+        return strategy == null;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return "Адаптивная сортировка по " + sortSpec
+                + ": размер=" + size
+                + ", серий=" + runs
+                + ", различных ключей=" + distinctKeys + " из " + sampledKeys
+                + " -> " + (strategy == null ? "без сортировки" : strategy.getStrategyName())
+                + " (" + reason + ")";
+    }
+}
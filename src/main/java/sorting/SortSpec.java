@@ -0,0 +1,295 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Описание многоключевого порядка сортировки: упорядоченный список полей,
+ * у каждого из которых свое направление. Например, «телефон по убыванию, затем имя по возрастанию».
+ *
+ * <p>Спецификация компилируется методом {@link #toComparator()} в отдельный финальный класс
+ * компаратора для каждого поля при одном ключе и в написанный вручную компаратор для порядка
+ * по умолчанию (имя -> ID -> телефон). Только произвольные многоключевые спецификации
+ * сравниваются общим циклом по полям. Ключи сравниваются напрямую через геттеры
+ * {@link Client}: ID — как {@code int} без упаковки, фамилия, имя и отчество — участками
+ * строки имени без выделения подстрок, направление — сменой знака результата
+ * вместо обертки {@link Comparator#reversed()}. Поэтому тело сравнения короткое,
+ * JIT встраивает его в сортировку, и при сортировке ничего не выделяется.
+ *
+ * <p>Две спецификации с одинаковыми полями и направлениями равны, и их компараторы тоже
+ * равны по {@code equals}, что позволяет сравнивать порядки, построенные в разных местах.
+ */
+public final class SortSpec {
+    private final Field[] fields;
+    private final boolean[] ascending;
+
+    private SortSpec(Field[] fields, boolean[] ascending) {
+        this.fields = fields;
+        this.ascending = ascending;
+    }
+
+    /**
+     * Спецификация из одного поля.
+     *
+     * @throws IllegalArgumentException если поле равно {@code null}
+     */
+    public static SortSpec of(Field field, boolean ascending) {
+        return new Builder().then(field, ascending).build();
+    }
+
+    public static class Builder {
+        private final List<Field> fields = new ArrayList<>();
+        private final List<Boolean> ascending = new ArrayList<>();
+
+        /**
+         * Добавляет следующий по значимости ключ.
+         *
+         * @throws IllegalArgumentException если поле равно {@code null}
+         */
+        public Builder then(Field field, boolean ascending) {
+            if (field == null) {
+                throw new IllegalArgumentException("Поле сортировки не может быть null");
+            }
+            this.fields.add(field);
+            this.ascending.add(ascending);
+            return this;
+        }
+
+        /**
+         * @throws IllegalStateException если не добавлено ни одного поля
+         */
+        public SortSpec build() {
+            if (fields.isEmpty()) {
+                throw new IllegalStateException("Спецификация сортировки должна содержать хотя бы одно поле");
+            }
+            boolean[] directions = new boolean[ascending.size()];
+            for (int i = 0; i < directions.length; i++) {
+                directions[i] = ascending.get(i);
+            }
+            return new SortSpec(fields.toArray(new Field[0]), directions);
+        }
+    }
+
+    /**
+     * Компилирует спецификацию в компаратор без упаковки ключей и без вложенных оберток.
+     */
+    public Comparator<Client> toComparator() {
+        if (fields.length == 1) {
+            return switch (fields[0]) {
+                case NAME -> new NameComparator(this);
+                case ID_NUMBER -> new IdComparator(this);
+                case PHONE_NUMBER -> new PhoneComparator(this);
+                case LAST_NAME -> new NameTokenComparator(this, Client.LAST_NAME_TOKEN);
+                case FIRST_NAME -> new NameTokenComparator(this, Client.FIRST_NAME_TOKEN);
+                case PATRONYMIC -> new NameTokenComparator(this, Client.PATRONYMIC_TOKEN);
+            };
+        }
+        if (isDefaultOrder()) {
+            return new DefaultOrderComparator(this);
+        }
+        return new CompiledComparator(this);
+    }
+
+    private boolean isDefaultOrder() {
+        return fields.length == 3
+                && fields[0] == Field.NAME && ascending[0]
+                && fields[1] == Field.ID_NUMBER && ascending[1]
+                && fields[2] == Field.PHONE_NUMBER && ascending[2];
+    }
+
+    public int size() {
+        return fields.length;
+    }
+
+    public Field getField(int index) {
+        return fields[index];
+    }
+
+    public boolean isAscending(int index) {
+        return ascending[index];
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof SortSpec spec)) {
+            return false;
+        }
+        return Arrays.equals(fields, spec.fields) && Arrays.equals(ascending, spec.ascending);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(fields) + Arrays.hashCode(ascending);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                builder.append(" -> ");
+            }
+            builder.append(fields[i]).append(ascending[i] ? " по возрастанию" : " по убыванию");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Общая часть компараторов спецификации: равенство, хеш и строковое представление
+     * определяются спецификацией, поэтому компараторы равных спецификаций равны.
+     */
+    abstract static class SpecComparator implements Comparator<Client> {
+        private final SortSpec spec;
+
+        SpecComparator(SortSpec spec) {
+            this.spec = spec;
+        }
+
+        SortSpec getSpec() {
+            return spec;
+        }
+
+        @Override
+        public final boolean equals(Object other) {
+            return other instanceof SpecComparator comparator && spec.equals(comparator.spec);
+        }
+
+        @Override
+        public final int hashCode() {
+            return spec.hashCode();
+        }
+
+        @Override
+        public final String toString() {
+            return "SortSpec[" + spec + "]";
+        }
+    }
+
+    // compareTo и Integer.compare никогда не возвращают Integer.MIN_VALUE, поэтому смена знака безопасна
+
+    static final class NameComparator extends SpecComparator {
+        private final boolean ascending;
+
+        NameComparator(SortSpec spec) {
+            super(spec);
+            this.ascending = spec.ascending[0];
+        }
+
+        @Override
+        public int compare(Client c1, Client c2) {
+            int comparison = c1.getName().compareTo(c2.getName());
+            return ascending ? comparison : -comparison;
+        }
+    }
+
+    static final class IdComparator extends SpecComparator {
+        private final boolean ascending;
+
+        IdComparator(SortSpec spec) {
+            super(spec);
+            this.ascending = spec.ascending[0];
+        }
+
+        @Override
+        public int compare(Client c1, Client c2) {
+            return ascending
+                    ? Integer.compare(c1.getIdNumber(), c2.getIdNumber())
+                    : Integer.compare(c2.getIdNumber(), c1.getIdNumber());
+        }
+    }
+
+    static final class PhoneComparator extends SpecComparator {
+        private final boolean ascending;
+
+        PhoneComparator(SortSpec spec) {
+            super(spec);
+            this.ascending = spec.ascending[0];
+        }
+
+        @Override
+        public int compare(Client c1, Client c2) {
+            int comparison = c1.getPhoneNumber().compareTo(c2.getPhoneNumber());
+            return ascending ? comparison : -comparison;
+        }
+    }
+
+    /**
+     * Сравнение по одной части имени: фамилии, имени или отчеству.
+     */
+    static final class NameTokenComparator extends SpecComparator {
+        private final boolean ascending;
+        private final int token;
+
+        NameTokenComparator(SortSpec spec, int token) {
+            super(spec);
+            this.ascending = spec.ascending[0];
+            this.token = token;
+        }
+
+        @Override
+        public int compare(Client c1, Client c2) {
+            int comparison = c1.compareNameToken(c2, token);
+            return ascending ? comparison : -comparison;
+        }
+    }
+
+    /**
+     * Порядок по умолчанию: имя, затем ID, затем телефон, все по возрастанию.
+     */
+    static final class DefaultOrderComparator extends SpecComparator {
+        DefaultOrderComparator(SortSpec spec) {
+            super(spec);
+        }
+
+        @Override
+        public int compare(Client c1, Client c2) {
+            int nameComparison = c1.getName().compareTo(c2.getName());
+            if (nameComparison != 0) return nameComparison;
+
+            int idComparison = Integer.compare(c1.getIdNumber(), c2.getIdNumber());
+            if (idComparison != 0) return idComparison;
+
+            return c1.getPhoneNumber().compareTo(c2.getPhoneNumber());
+        }
+    }
+
+    /**
+     * Компаратор произвольной многоключевой спецификации: цикл по полям.
+     */
+    static final class CompiledComparator extends SpecComparator {
+        private final Field[] fields;
+        private final boolean[] ascending;
+
+        CompiledComparator(SortSpec spec) {
+            super(spec);
+            this.fields = spec.fields;
+            this.ascending = spec.ascending;
+        }
+
+        @Override
+        public int compare(Client c1, Client c2) {
+            for (int i = 0; i < fields.length; i++) {
+                int comparison = switch (fields[i]) {
+                    case NAME -> c1.getName().compareTo(c2.getName());
+                    case ID_NUMBER -> Integer.compare(c1.getIdNumber(), c2.getIdNumber());
+                    case PHONE_NUMBER -> c1.getPhoneNumber().compareTo(c2.getPhoneNumber());
+                    case LAST_NAME -> c1.compareNameToken(c2, Client.LAST_NAME_TOKEN);
+                    case FIRST_NAME -> c1.compareNameToken(c2, Client.FIRST_NAME_TOKEN);
+                    case PATRONYMIC -> c1.compareNameToken(c2, Client.PATRONYMIC_TOKEN);
+                };
+                if (comparison != 0) {
+                    return ascending[i] ? comparison : -comparison;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package sorting;
+
+import dto.Client;
+import input.CustomCollection;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Добавление порции клиентов в уже отсортированную коллекцию без ее пересортировки.
+ *
+ * <p>Сортируется только новая порция, после чего она сливается с коллекцией с конца
+ * внутреннего массива. Для каждого нового клиента позиция вставки ищется бинарным поиском
+ * среди еще не сдвинутых элементов, а блок элементов правее нее переносится одним
+ * {@link System#arraycopy}. Элементы левее самой левой позиции вставки не затрагиваются.
+ * Число сравнений — {@code O(m log m + m log n)} для порции из {@code m} клиентов,
+ * поэтому стоимость добавления определяется размером порции, а не всего списка.
+ *
+ * <p>Результат совпадает со стабильной сортировкой всего списка после добавления:
+ * новые клиенты встают после равных им существующих и сохраняют порядок внутри порции.
+ */
+public final class SortedBatchMerger {
+
+    private SortedBatchMerger() {
+    }
+
+    /**
+     * Добавляет клиентов из {@code batch} в {@code sorted}, сохраняя ее порядок.
+     * Сама порция не изменяется, а коллекция после слияния отмечается как упорядоченная.
+     *
+     * @param sorted     коллекция, упорядоченная по {@code comparator}
+     * @param batch      новые клиенты в произвольном порядке
+     * @param comparator порядок коллекции {@code sorted}
+     * @throws IllegalArgumentException если коллекция или компаратор равны {@code null}
+     */
+    public static void mergeBatch(CustomCollection<Client> sorted, CustomCollection<Client> batch,
+                                  Comparator<Client> comparator) {
+        if (sorted == null) {
+            throw new IllegalArgumentException("Коллекция не может быть null");
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Компаратор не может быть null");
+        }
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        int existing = sorted.size();
+        int added = batch.size();
+        Object[] sortedBatch = Arrays.copyOf(batch.readElements(), added);
+        new NaturalMergeSortStrategy(comparator).sort(CustomCollection.wrap(sortedBatch, added));
+
+        // Расширяем коллекцию на размер порции; хвост будет перезаписан при слиянии
+        sorted.addAll(batch);
+        Object[] elements = sorted.getElements();
+
+        int last = existing - 1;
+        int target = existing + added - 1;
+        for (int j = added - 1; j >= 0; j--) {
+            Client client = (Client) sortedBatch[j];
+            int position = upperBound(elements, last + 1, client, comparator);
+            int shifted = last + 1 - position;
+            System.arraycopy(elements, position, elements, target - shifted + 1, shifted);
+            target -= shifted;
+            last = position - 1;
+            elements[target--] = client;
+        }
+        sorted.markSortedBy(comparator);
+    }
+
+    /**
+     * Первая позиция в {@code [0, to)}, элемент на которой строго больше {@code key}.
+     */
+    private static int upperBound(Object[] elements, int to, Client key, Comparator<Client> comparator) {
+        int low = 0;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare((Client) elements[mid], key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -1,7 +1,37 @@
 package sorting;
 
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+
 public class SortingManager {
+    /** Коллекции не длиннее этого сортируются вставками. */
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /** Средняя длина серии, начиная с которой коллекция считается почти упорядоченной. */
+    static final int PRESORTED_RUN_LENGTH = 16;
+
+    /** Размер, начиная с которого поразрядная сортировка окупает подготовку ключей. */
+    static final int RADIX_THRESHOLD = 256;
+
+    /** Размер, начиная с которого имеет смысл параллельная сортировка. */
+    static final int PARALLEL_THRESHOLD = 2 * ParallelMergeSortStrategy.DEFAULT_THRESHOLD;
+
+    /** Сколько ключей берется в выборку для оценки количества различных значений. */
+    static final int CARDINALITY_SAMPLE_SIZE = 256;
+
+    /**
+     * Оценка дополнительной памяти на элемент у стратегий с буфером:
+     * вспомогательный массив ссылок и массив ключей.
+     */
+    static final int BUFFER_BYTES_PER_ELEMENT = 16;
+
     private SortingStrategy currentStrategy;
+    private SortDecision lastDecision;
 
     public SortingManager(){}
 
@@ -22,4 +52,177 @@ public class SortingManager {
     public SortingStrategy getCurrentStrategy() {
         return currentStrategy;
     }
+
+    /**
+     * Сортирует коллекцию текущей стратегией и отмечает в ней полученный порядок.
+     * Если коллекция уже отмечена как упорядоченная так же, сортировка не выполняется.
+     *
+     * @param clients коллекция для сортировки
+     * @return {@code true}, если сортировка выполнялась
+     * @throws IllegalStateException если стратегия не установлена
+     */
+    public boolean sort(CustomCollection<Client> clients) {
+        if (currentStrategy == null) {
+            throw new IllegalStateException("Стратегия сортировки не установлена");
+        }
+        if (clients == null) {
+            return false;
+        }
+
+        Comparator<Client> ordering = currentStrategy.getOrdering();
+        if (clients.isSortedBy(ordering)) {
+            return false;
+        }
+        currentStrategy.sort(clients);
+        clients.markSortedBy(ordering);
+        return true;
+    }
+
+    public SortDecision sortAdaptive(CustomCollection<Client> clients, Field field, boolean ascending) {
+        return sortAdaptive(clients, SortSpec.of(field, ascending));
+    }
+
+    /**
+     * Сортирует коллекцию стратегией, подобранной по ее характеристикам.
+     *
+     * <p>Замеряются размер коллекции, количество серий — неубывающих или строго убывающих участков
+     * (один проход сравнений), тип ключа и количество различных значений ключа в выборке. Если коллекция уже упорядочена
+     * или отмечена как упорядоченная по этой спецификации, сортировка не выполняется;
+     * в последнем случае не нужен и проход сравнений. После вызова порядок отмечается в коллекции,
+     * а выбранная стратегия становится текущей.
+     * Если свободной памяти не хватает на буфер сортировки, выбирается {@link InPlaceMergeSortStrategy}.
+     * Все выбираемые стратегии стабильны, поэтому результат совпадает
+     * с {@link MergeSortDynamicStrategy} для той же спецификации.
+     *
+     * @param clients  коллекция для сортировки
+     * @param sortSpec порядок сортировки
+     * @return принятое решение с причиной выбора; также доступно через {@link #getLastDecision()}
+     * @throws IllegalArgumentException если спецификация равна {@code null}
+     */
+    public SortDecision sortAdaptive(CustomCollection<Client> clients, SortSpec sortSpec) {
+        if (sortSpec == null) {
+            throw new IllegalArgumentException("Спецификация сортировки не может быть null");
+        }
+
+        Comparator<Client> comparator = sortSpec.toComparator();
+        SortDecision decision;
+        if (clients != null && clients.isSortedBy(comparator)) {
+            decision = new SortDecision(sortSpec, clients.size(), 1, 0, 0, null, "порядок уже отмечен в коллекции");
+        } else {
+            Runtime runtime = Runtime.getRuntime();
+            long freeMemory = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+            decision = decide(clients, sortSpec, runtime.availableProcessors(), freeMemory);
+            if (!decision.isSkipped()) {
+                setStrategy(decision.getStrategy());
+                decision.getStrategy().sort(clients);
+            }
+        }
+        if (clients != null) {
+            clients.markSortedBy(comparator);
+        }
+        lastDecision = decision;
+        return decision;
+    }
+
+    /**
+     * Последнее решение адаптивного режима или {@code null}, если он еще не использовался.
+     */
+    public SortDecision getLastDecision() {
+        return lastDecision;
+    }
+
+    /**
+     * @param processors доступное количество процессоров
+     * @param freeMemory сколько байт еще можно выделить в куче
+     */
+    static SortDecision decide(CustomCollection<Client> clients, SortSpec sortSpec, int processors, long freeMemory) {
+        int size = clients == null ? 0 : clients.size();
+        if (size <= 1) {
+            return new SortDecision(sortSpec, size, size, 0, 0, null, "меньше двух элементов");
+        }
+
+        Object[] elements = clients.readElements();
+        Comparator<Client> comparator = sortSpec.toComparator();
+
+        // Серии считаются так же, как их находит NaturalMergeSortStrategy: неубывающие
+        // и строго убывающие участки; убывающий участок она просто разворачивает
+        int runs = 0;
+        boolean ordered = false;
+        for (int from = 0; from < size; runs++) {
+            int end = from + 1;
+            if (end < size && comparator.compare((Client) elements[end], (Client) elements[from]) < 0) {
+                end++;
+                while (end < size && comparator.compare((Client) elements[end], (Client) elements[end - 1]) < 0) {
+                    end++;
+                }
+            } else {
+                while (end < size && comparator.compare((Client) elements[end], (Client) elements[end - 1]) >= 0) {
+                    end++;
+                }
+                ordered = from == 0 && end == size;
+            }
+            from = end;
+        }
+
+        Field keyField = sortSpec.getField(0);
+        int step = Math.max(1, size / CARDINALITY_SAMPLE_SIZE);
+        Set<Object> sample = new HashSet<>();
+        int sampledKeys = 0;
+        for (int i = 0; i < size; i += step) {
+            sample.add(keyOf((Client) elements[i], keyField));
+            sampledKeys++;
+        }
+        int distinctKeys = sample.size();
+
+        SortingStrategy strategy;
+        String reason;
+        boolean singleKey = sortSpec.size() == 1;
+        boolean ascending = sortSpec.isAscending(0);
+        boolean parallel = processors > 1 && size >= PARALLEL_THRESHOLD;
+
+        if (ordered) {
+            strategy = null;
+            reason = "коллекция уже упорядочена";
+        } else if (size <= INSERTION_SORT_THRESHOLD) {
+            strategy = new InsertionSortStrategy(comparator);
+            reason = "короткая коллекция";
+        } else if ((long) size * BUFFER_BYTES_PER_ELEMENT > freeMemory) {
+            strategy = new InPlaceMergeSortStrategy(comparator);
+            reason = "мало свободной памяти для буфера, слияние на месте";
+        } else if ((long) runs * PRESORTED_RUN_LENGTH <= size) {
+            strategy = new NaturalMergeSortStrategy(comparator);
+            reason = "коллекция почти упорядочена, серии сливаются без разбиения";
+        } else if (singleKey && size >= RADIX_THRESHOLD && keyField == Field.ID_NUMBER) {
+            strategy = new IdRadixSortStrategy(ascending);
+            reason = "целочисленный ключ, поразрядная сортировка за линейное время";
+        } else if (singleKey && size >= RADIX_THRESHOLD && keyField == Field.PHONE_NUMBER) {
+            strategy = new PhoneRadixSortStrategy(ascending);
+            reason = "телефон упаковывается в число, поразрядная сортировка за линейное время";
+        } else if (singleKey && size >= RADIX_THRESHOLD && keyField == Field.NAME
+                && (!parallel || distinctKeys * 2 <= sampledKeys)) {
+            strategy = new NameRadixSortStrategy(ascending);
+            reason = distinctKeys * 2 <= sampledKeys
+                    ? "много повторяющихся имен, общие префиксы не сравниваются повторно"
+                    : "строковый ключ, MSD-сортировка по символам";
+        } else if (parallel) {
+            strategy = new ParallelMergeSortStrategy(comparator);
+            reason = "большая коллекция, доступно процессоров: " + processors;
+        } else {
+            strategy = new NaturalMergeSortStrategy(comparator);
+            reason = "сортировка сравнениями общего назначения";
+        }
+
+        return new SortDecision(sortSpec, size, runs, sampledKeys, distinctKeys, strategy, reason);
+    }
+
+    private static Object keyOf(Client client, Field field) {
+        return switch (field) {
+            case NAME -> client.getName();
+            case ID_NUMBER -> client.getIdNumber();
+            case PHONE_NUMBER -> client.getPhoneNumber();
+            case LAST_NAME -> client.getLastName();
+            case FIRST_NAME -> client.getFirstName();
+            case PATRONYMIC -> client.getPatronymic();
+        };
+    }
 }
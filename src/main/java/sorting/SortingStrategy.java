@@ -3,9 +3,61 @@ package sorting;
 import dto.Client;
 import input.CustomCollection;
 
+import java.util.Comparator;
+import java.util.function.Predicate;
+
 public interface SortingStrategy {
 
     void sort(CustomCollection<Client> clients);
     String getStrategyName();
     void sortEvenValuesOnly(CustomCollection<Client> clients);
-}
\ No newline at end of file
+
+    /**
+     * Порядок, который дает {@link #sort}, для отметки {@link CustomCollection#markSortedBy}.
+     * Стратегии с одинаковым порядком должны возвращать равные по {@code equals} компараторы.
+     *
+     * @return компаратор порядка или {@code null}, если порядок заранее неизвестен
+     */
+    default Comparator<Client> getOrdering() {
+        return null;
+    }
+
+    /**
+     * Сохраняет ли {@link #sort} исходный порядок равных клиентов.
+     * Все стратегии, кроме явно помеченных, стабильны.
+     */
+    default boolean isStable() {
+        return true;
+    }
+
+    /**
+     * Сортирует этой стратегией только клиентов, удовлетворяющих предикату;
+     * остальные клиенты остаются на своих местах.
+     * {@link #sortEvenValuesOnly} — частный случай с условием «четный ID».
+     *
+     * @param clients   коллекция клиентов
+     * @param predicate условие, выбирающее сортируемых клиентов
+     * @see PredicateScopedSorter
+     */
+    default void sortMatching(CustomCollection<Client> clients, Predicate<? super Client> predicate) {
+        PredicateScopedSorter.sortMatching(clients, predicate, this::sort);
+    }
+
+    /**
+     * Возвращает {@code k} наименьших по компаратору клиентов в отсортированном порядке,
+     * не сортируя и не изменяя исходную коллекцию.
+     *
+     * <p>Выбор выполняется ограниченной кучей за O(n log k), поэтому подходит
+     * для «первых 100 клиентов» на больших списках. Равные элементы идут
+     * в исходном порядке, как при стабильной сортировке.
+     *
+     * @param clients    исходная коллекция
+     * @param k          сколько клиентов вернуть; если больше размера коллекции, возвращаются все
+     * @param comparator порядок, в котором выбираются наименьшие
+     * @return новая коллекция из не более чем {@code k} клиентов
+     * @throws IllegalArgumentException если {@code k} отрицательно или компаратор равен {@code null}
+     */
+    default CustomCollection<Client> sortTopK(CustomCollection<Client> clients, int k, Comparator<Client> comparator) {
+        return TopKSelector.select(clients, k, comparator);
+    }
+}
@@ -0,0 +1,115 @@
+package sorting;
+
+import dto.Client;
+import input.CustomCollection;
+
+import java.util.Comparator;
+
+/**
+ * Выбор {@code k} наименьших клиентов с помощью ограниченной max-кучи.
+ *
+ * <p>Куча хранит индексы элементов внутреннего массива коллекции и никогда
+ * не превышает {@code k} элементов, поэтому выбор выполняется за O(n log k)
+ * без сортировки всей коллекции. При равенстве по компаратору раньше идет
+ * элемент с меньшим исходным индексом, то есть результат совпадает с первыми
+ * {@code k} элементами стабильной сортировки.
+ */
+final class TopKSelector {
+    private final Object[] elements;
+    private final Comparator<Client> comparator;
+    private final int[] heap;
+    private int heapSize;
+
+    private TopKSelector(Object[] elements, int capacity, Comparator<Client> comparator) {
+        this.elements = elements;
+        this.comparator = comparator;
+        this.heap = new int[capacity];
+    }
+
+    static CustomCollection<Client> select(CustomCollection<Client> clients, int k, Comparator<Client> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k не может быть отрицательным");
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Компаратор не может быть null");
+        }
+        if (clients == null || clients.isEmpty() || k == 0) {
+            return new CustomCollection<>();
+        }
+
+        int limit = Math.min(k, clients.size());
+        TopKSelector selector = new TopKSelector(clients.readElements(), limit, comparator);
+
+        for (int i = 0; i < clients.size(); i++) {
+            selector.offer(i);
+        }
+
+        return selector.drainSorted();
+    }
+
+    /** Сравнивает элементы по компаратору, а при равенстве — по исходному индексу. */
+    private int compare(int index1, int index2) {
+        int comparison = comparator.compare((Client) elements[index1], (Client) elements[index2]);
+        return comparison != 0 ? comparison : Integer.compare(index1, index2);
+    }
+
+    private void offer(int index) {
+        if (heapSize < heap.length) {
+            heap[heapSize] = index;
+            siftUp(heapSize++);
+        } else if (compare(index, heap[0]) < 0) {
+            // Новый элемент меньше наибольшего из отобранных — вытесняет его
+            heap[0] = index;
+            siftDown(0);
+        }
+    }
+
+    private CustomCollection<Client> drainSorted() {
+        Object[] sorted = new Object[heapSize];
+        for (int position = heapSize - 1; position >= 0; position--) {
+            sorted[position] = elements[heap[0]];
+            heap[0] = heap[--heapSize];
+            siftDown(0);
+        }
+
+        CustomCollection<Client> result = new CustomCollection<>(sorted.length);
+        for (Object client : sorted) {
+            result.add((Client) client);
+        }
+        return result;
+    }
+
+    private void siftUp(int position) {
+        int index = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (compare(heap[parent], index) >= 0) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = index;
+    }
+
+    private void siftDown(int position) {
+        if (heapSize == 0) {
+            return;
+        }
+        int index = heap[position];
+        int half = heapSize >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < heapSize && compare(heap[right], heap[child]) > 0) {
+                child = right;
+            }
+            if (compare(index, heap[child]) >= 0) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = index;
+    }
+}
@@ -6,12 +6,23 @@ import input.CustomCollection;
 import input.InputManager;
 import input.strategy.ManualInputReaderStrategy;
 import output.FileDataWriter;
+import sorting.CollatedNameSortStrategy;
+import sorting.ExternalMergeSorter;
+import sorting.FanOutSorter;
 import sorting.MergeSortDefaultStrategy;
-import sorting.MergeSortDynamicStrategy;
+import sorting.PermutationIndex;
+import sorting.SortDecision;
+import sorting.SortSpec;
+import sorting.SortedBatchMerger;
 import sorting.SortingManager;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class AppController {
 
@@ -21,9 +32,15 @@ public class AppController {
     private final FileDataWriter fileDataWriter = new FileDataWriter();
     ConcurrentCounter concurrentCounter = new ConcurrentCounter();
 
+    /** Перестановки по каждому полю над клиентами в порядке добавления. */
+    private final PermutationIndex permutationIndex = new PermutationIndex();
+
+    /** Один экземпляр, чтобы ключи сортировки имен сохранялись между сортировками. */
+    private final CollatedNameSortStrategy collatedNameSortStrategy = new CollatedNameSortStrategy();
+
     public void startDefaultSorting(){
         sortingManager.setStrategy(new MergeSortDefaultStrategy());
-        sortingManager.getCurrentStrategy().sort(fullList);
+        sortingManager.sort(fullList);
         showAndWriteAllClients();
     }
 
@@ -33,12 +50,83 @@ public class AppController {
         showAndWriteAllClients();
     }
 
+    /**
+     * Упорядочивает список по полю по возрастанию. Порядок берется из перестановки
+     * {@link PermutationIndex}, поэтому повторные переключения между полями
+     * стоят линейного прохода, а не полной сортировки.
+     *
+     * <p>Если индекс устарел (список изменяли в обход него), список сортируется
+     * адаптивно через {@link SortingManager#sortAdaptive}, решение выводится в журнал,
+     * и индекс перестраивается уже по отсортированному списку.
+     */
     public void startDynamicSorting(Field field){
-        sortingManager.setStrategy(new MergeSortDynamicStrategy(field, true));
-        sortingManager.getCurrentStrategy().sort(fullList);
+        SortSpec sortSpec = SortSpec.of(field, true);
+        if (!fullList.isSortedBy(sortSpec.toComparator())) {
+            if (permutationIndex.isSyncedWith(fullList)) {
+                permutationIndex.copyInOrder(field, fullList);
+            } else {
+                SortDecision decision = sortingManager.sortAdaptive(fullList, sortSpec);
+                System.out.println(decision);
+                permutationIndex.reset(fullList);
+            }
+        }
+        showAndWriteAllClients();
+    }
+
+    public void startCollatedNameSorting(){
+        sortingManager.setStrategy(collatedNameSortStrategy);
+        sortingManager.sort(fullList);
         showAndWriteAllClients();
     }
 
+    public void startExternalSorting(String inputPath, String outputPath){
+        try {
+            long sortedCount = new ExternalMergeSorter().sort(Paths.get(inputPath), Paths.get(outputPath));
+            System.out.println("Отсортировано клиентов: " + sortedCount);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        System.out.println("Результат записан в файл: " + outputPath);
+    }
+
+    /**
+     * Выгружает всех клиентов в каталог в трех порядках сразу: по имени, по ID и по телефону.
+     * Каждый порядок сортируется в своем потоке и пишется в свой файл {@code sorted-<поле>.txt}.
+     */
+    public void startFanOutExport(String directory){
+        Map<SortSpec, Path> outputs = new LinkedHashMap<>();
+        for (Field field : new Field[]{Field.NAME, Field.ID_NUMBER, Field.PHONE_NUMBER}) {
+            outputs.put(SortSpec.of(field, true), Paths.get(directory, "sorted-" + field + ".txt"));
+        }
+        try {
+            new FanOutSorter().sort(fullList, outputs);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        for (Path output : outputs.values()) {
+            System.out.println("Результат записан в файл: " + output);
+        }
+    }
+
+    /**
+     * Добавляет новых клиентов в общий список. Если список уже отсортирован,
+     * сортируется только новая порция и сливается с ним, а не весь список заново.
+     */
+    private void appendClients(CustomCollection<Client> batch) {
+        boolean indexSynced = permutationIndex.isSyncedWith(fullList);
+        Comparator<Client> order = fullList.getSortedBy();
+        if (order == null) {
+            fullList.addAll(batch);
+        } else {
+            SortedBatchMerger.mergeBatch(fullList, batch, order);
+        }
+        // Устаревший индекс дополнять бессмысленно: он будет перестроен при следующей сортировке
+        if (indexSynced) {
+            permutationIndex.addAll(batch);
+            permutationIndex.markSynced(fullList);
+        }
+    }
+
     public CustomCollection<Client> getFullList() {
         return fullList;
     }
@@ -56,7 +144,7 @@ public class AppController {
         try {
             CustomCollection<Client> fromFileList = inputManager.loadData();
             int countOfAlexes = concurrentCounter.countAlexes(fromFileList);
-            fullList.addAll(fromFileList);
+            appendClients(fromFileList);
             for(Client client : fromFileList){
                 System.out.println(client);
             }
@@ -73,7 +161,7 @@ public class AppController {
         try {
             CustomCollection<Client> manualList = inputManager.loadData();
             int countOfAlexes = concurrentCounter.countAlexes(manualList);
-            fullList.addAll(manualList);
+            appendClients(manualList);
             for(Client client : manualList){
                 System.out.println(client);
             }
@@ -88,7 +176,7 @@ public class AppController {
         try {
             CustomCollection<Client> randomList = inputManager.loadData();
             int countOfAlexes = concurrentCounter.countAlexes(randomList);
-            fullList.addAll(randomList);
+            appendClients(randomList);
             for(Client client : randomList){
                 System.out.println(client);
             }
@@ -104,7 +192,7 @@ public class AppController {
         try {
             CustomCollection<Client> manualList = inputManager.loadData();
             int countOfAlexes = concurrentCounter.countAlexes(manualList);
-            fullList.addAll(manualList);
+            appendClients(manualList);
             for(Client client : manualList){
                 System.out.println(client);
             }
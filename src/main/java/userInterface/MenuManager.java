@@ -86,11 +86,15 @@ public class MenuManager implements Printable {
                     case 2 -> printNameSortingOptions();
                     case 3 -> printIdSortingOptions();
                     case 4 -> printPhoneSortingOptions();
+                    case 5 -> sortFileExternally();
+                    case 6 -> appController.startCollatedNameSorting();
+                    case 7 -> appController.startDynamicSorting(Field.LAST_NAME);
+                    case 8 -> exportInAllOrders();
                     case 0 -> {
                         System.out.println("Возврат в главное меню...");
                         backToMain = true;
                     }
-                    default -> System.out.println("Неверный выбор. Пожалуйста, выберите от 0 до 4");
+                    default -> System.out.println("Неверный выбор. Пожалуйста, выберите от 0 до 8");
                 }
             }
             catch (NumberFormatException e) {
@@ -184,6 +188,20 @@ public class MenuManager implements Printable {
         System.out.println("Создано: " + count + " записей");
     }
 
+    private void sortFileExternally() {
+        System.out.println("Введите путь к исходному файлу: ");
+        String inputPath = scanner.nextLine().trim();
+        System.out.println("Введите путь к файлу результата: ");
+        String outputPath = scanner.nextLine().trim();
+        appController.startExternalSorting(inputPath, outputPath);
+    }
+
+    private void exportInAllOrders() {
+        System.out.println("Введите путь к каталогу для файлов результата: ");
+        String directory = scanner.nextLine().trim();
+        appController.startFanOutExport(directory);
+    }
+
     private void printDefaultOrder() {
         System.out.println("Список клиентов");
         appController.startDefaultSorting();
@@ -28,6 +28,10 @@ public interface Printable {
                 2) Сортировать клиентов по имени
                 3) Сортировать клиентов по ID
                 4) Сортировать клиентов по номеру телефона
+                5) Отсортировать большой файл без загрузки в память
+                6) Сортировать клиентов по имени по правилам русского алфавита
+                7) Сортировать клиентов по фамилии
+                8) Выгрузить клиентов в файлы по имени, ID и телефону одновременно
                 0) Возврат в главное меню"""
         );
     }
@@ -146,4 +146,42 @@ class ClientTest {
         assertEquals(client1.getPhoneNumber(), client2.getPhoneNumber());
         assertEquals(client1.getIdNumber(), client2.getIdNumber());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Фамилия, имя и отчество должны выделяться из имени из двух и трех слов")
+    void testNameTokens() {
+        Client full = new Client.ClientBuilder().name("Иванов Пётр Сергеевич").phoneNumber("+7").idNumber(1).build();
+        Client shortName = new Client.ClientBuilder().name("Смирнова Анна").phoneNumber("+7").idNumber(2).build();
+        Client oneWord = new Client.ClientBuilder().name("Алексей").phoneNumber("+7").idNumber(3).build();
+
+        assertEquals("Иванов", full.getLastName());
+        assertEquals("Пётр", full.getFirstName());
+        assertEquals("Сергеевич", full.getPatronymic());
+
+        assertEquals("Смирнова", shortName.getLastName());
+        assertEquals("Анна", shortName.getFirstName());
+        assertEquals("", shortName.getPatronymic());
+
+        assertEquals("Алексей", oneWord.getLastName());
+        assertEquals("", oneWord.getFirstName());
+        assertEquals("", oneWord.getPatronymic());
+        assertThrows(IllegalArgumentException.class, () -> full.getNameToken(3));
+    }
+
+    @Test
+    @DisplayName("compareNameToken должен совпадать со сравнением подстрок")
+    void testCompareNameTokenMatchesSubstringComparison() {
+        String[] names = {"Иванов Пётр Сергеевич", "Иванова Анна", "Иванов Пётр", "Ёлкин Иван Ильич", "Алексей", "Ан Ян Ян"};
+        for (String name1 : names) {
+            for (String name2 : names) {
+                Client client1 = new Client.ClientBuilder().name(name1).phoneNumber("+7").idNumber(1).build();
+                Client client2 = new Client.ClientBuilder().name(name2).phoneNumber("+7").idNumber(2).build();
+                for (int token = Client.LAST_NAME_TOKEN; token <= Client.PATRONYMIC_TOKEN; token++) {
+                    assertEquals(Integer.signum(client1.getNameToken(token).compareTo(client2.getNameToken(token))),
+                            Integer.signum(client1.compareNameToken(client2, token)),
+                            name1 + " / " + name2 + ", слово " + token);
+                }
+            }
+        }
+    }
+}
@@ -3,8 +3,11 @@ package input;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -297,4 +300,252 @@ class CustomCollectionTest {
         assertEquals("a", collection.get(0));
         assertEquals("b", collection.get(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAddAllGrowsOnceAndCopiesElements() {
+        CustomCollection<String> source = new CustomCollection<>();
+        for (int i = 0; i < 100; i++) {
+            source.add("s" + i);
+        }
+        collection.add("first");
+
+        collection.addAll(source);
+
+        assertEquals(101, collection.size());
+        assertEquals(101, collection.getElements().length);
+        assertEquals("first", collection.get(0));
+        assertEquals("s99", collection.get(100));
+    }
+
+    @Test
+    void testAddAllToItself() {
+        collection.add("a");
+        collection.add("b");
+
+        collection.addAll(collection);
+
+        assertEquals(4, collection.size());
+        assertEquals("a", collection.get(2));
+        assertEquals("b", collection.get(3));
+    }
+
+    @Test
+    void testAddAllAtIndex() {
+        collection.add("a");
+        collection.add("d");
+        CustomCollection<String> source = new CustomCollection<>();
+        source.add("b");
+        source.add("c");
+
+        collection.addAll(1, source);
+        collection.addAll(4, source);
+        collection.addAll(0, collection);
+
+        assertEquals(12, collection.size());
+        String[] expected = {"a", "b", "c", "d", "b", "c"};
+        for (int i = 0; i < collection.size(); i++) {
+            assertEquals(expected[i % expected.length], collection.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.addAll(13, source));
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.addAll(-1, source));
+    }
+
+    @Test
+    void testCopyRangeKeepsSortedMark() {
+        Comparator<String> order = Comparator.naturalOrder();
+        collection.add("a");
+        collection.add("b");
+        collection.add("c");
+        collection.markSortedBy(order);
+
+        CustomCollection<String> range = collection.copyRange(1, 3);
+        CustomCollection<String> empty = collection.copyRange(3, 3);
+
+        assertEquals(2, range.size());
+        assertEquals("b", range.get(0));
+        assertEquals("c", range.get(1));
+        assertTrue(range.isSortedBy(order));
+        assertTrue(empty.isEmpty());
+        empty.add("z");
+        assertEquals("z", empty.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.copyRange(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.copyRange(0, 4));
+    }
+
+    @Test
+    void testRemoveIfCompactsInOnePass() {
+        Comparator<String> order = Comparator.naturalOrder();
+        for (int i = 0; i < 10; i++) {
+            collection.add(String.valueOf(i));
+        }
+        collection.markSortedBy(order);
+
+        assertTrue(collection.removeIf(s -> Integer.parseInt(s) % 2 == 0));
+        assertFalse(collection.removeIf(s -> s.equals("0")));
+
+        assertEquals(5, collection.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(String.valueOf(2 * i + 1), collection.get(i));
+        }
+        assertNull(collection.getElements()[5]);
+        assertThrows(IllegalArgumentException.class, () -> collection.removeIf(null));
+    }
+
+    @Test
+    void testRetainAll() {
+        collection.add("a");
+        collection.add("b");
+        collection.add("a");
+        collection.add("c");
+        CustomCollection<String> retained = new CustomCollection<>();
+        retained.add("a");
+        retained.add("c");
+
+        assertTrue(collection.retainAll(retained));
+        assertFalse(collection.retainAll(retained));
+        assertEquals(3, collection.size());
+        assertEquals("a", collection.get(1));
+        assertEquals("c", collection.get(2));
+
+        assertTrue(collection.retainAll(new CustomCollection<>()));
+        assertTrue(collection.isEmpty());
+    }
+
+    @Test
+    void testEnsureCapacity() {
+        collection.ensureCapacity(5);
+        assertEquals(10, collection.getElements().length);
+
+        collection.ensureCapacity(1000);
+        assertEquals(1000, collection.getElements().length);
+    }
+
+    @Test
+    void testSpliteratorSplitsEvenly() {
+        for (int i = 0; i < 11; i++) {
+            collection.add(String.valueOf(i));
+        }
+
+        Spliterator<String> right = collection.spliterator();
+        assertTrue(right.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(11, right.getExactSizeIfKnown());
+
+        Spliterator<String> left = right.trySplit();
+        assertEquals(5, left.estimateSize());
+        assertEquals(6, right.estimateSize());
+
+        StringBuilder order = new StringBuilder();
+        assertTrue(left.tryAdvance(order::append));
+        left.forEachRemaining(order::append);
+        right.forEachRemaining(order::append);
+        assertEquals("012345678910", order.toString());
+        assertFalse(right.tryAdvance(order::append));
+        assertNull(right.trySplit());
+    }
+
+    @Test
+    void testParallelStreamKeepsOrder() {
+        for (int i = 0; i < 10_000; i++) {
+            collection.add(String.valueOf(i));
+        }
+
+        assertTrue(collection.parallelStream().isParallel());
+        assertEquals(collection.stream().collect(Collectors.toList()),
+                collection.parallelStream().collect(Collectors.toList()));
+        assertEquals(5000, collection.parallelStream().filter(s -> (s.charAt(s.length() - 1) - '0') % 2 == 0).count());
+    }
+
+    @Test
+    void testWrapUsesArrayWithoutCopying() {
+        Object[] array = {"b", "a", "c"};
+
+        CustomCollection<String> wrapped = CustomCollection.wrap(array, 2);
+
+        assertEquals(2, wrapped.size());
+        assertSame(array, wrapped.getElements());
+        wrapped.set(0, "z");
+        assertEquals("z", array[0]);
+    }
+
+    @Test
+    void testWrapWithInvalidSizeThrows() {
+        assertThrows(IllegalArgumentException.class, () -> CustomCollection.wrap(new Object[2], 3));
+        assertThrows(IllegalArgumentException.class, () -> CustomCollection.wrap(new Object[0], 0));
+    }
+
+    @Test
+    void testSortedMarkIsResetByModifications() {
+        Comparator<String> order = Comparator.naturalOrder();
+        collection.add("a");
+        collection.add("b");
+
+        collection.markSortedBy(order);
+        assertTrue(collection.isSortedBy(order));
+        assertSame(order, collection.getSortedBy());
+        assertFalse(collection.isSortedBy(Comparator.reverseOrder()));
+
+        collection.removeByIndex(0);
+        assertTrue(collection.isSortedBy(order));
+
+        collection.add("c");
+        assertFalse(collection.isSortedBy(order));
+
+        collection.markSortedBy(order);
+        collection.set(0, "z");
+        assertNull(collection.getSortedBy());
+
+        collection.markSortedBy(order);
+        Object[] read = collection.readElements();
+        assertTrue(collection.isSortedBy(order));
+        assertSame(read, collection.getElements());
+        assertNull(collection.getSortedBy());
+        assertFalse(collection.isSortedBy(null));
+    }
+
+    @Test
+    void testModCountGrowsOnEveryModification() {
+        collection.add("a");
+        collection.add("b");
+        int count = collection.getModCount();
+
+        collection.readElements();
+        collection.get(0);
+        assertEquals(count, collection.getModCount());
+
+        collection.set(0, "c");
+        assertTrue(collection.getModCount() > count);
+        count = collection.getModCount();
+
+        collection.removeByIndex(0);
+        collection.add("d");
+        assertEquals(2, collection.size());
+        assertTrue(collection.getModCount() > count);
+        count = collection.getModCount();
+
+        collection.getElements();
+        assertTrue(collection.getModCount() > count);
+    }
+
+    @Test
+    void testIndexOfUsesBinarySearchWhenSorted() {
+        int[] comparisons = new int[1];
+        Comparator<String> order = (s1, s2) -> {
+            comparisons[0]++;
+            return s1.compareTo(s2);
+        };
+        for (int i = 0; i < 1000; i++) {
+            collection.add(String.format("%04d", i / 2));
+        }
+
+        assertEquals(300, collection.indexOf("0150", order));
+        int linearComparisons = comparisons[0];
+
+        collection.markSortedBy(order);
+        comparisons[0] = 0;
+        assertEquals(300, collection.indexOf("0150", order));
+        assertEquals(-1, collection.indexOf("9999", order));
+        assertEquals(-1, collection.indexOf("0150a", order));
+        assertTrue(comparisons[0] < linearComparisons);
+        assertThrows(IllegalArgumentException.class, () -> collection.indexOf("a", null));
+    }
+}
@@ -0,0 +1,110 @@
+package input;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntCustomCollectionTest {
+
+    private IntCustomCollection collection;
+
+    @BeforeEach
+    void setUp() {
+        collection = new IntCustomCollection();
+    }
+
+    @Test
+    void testDefaultConstructorCapacity() {
+        assertEquals(10, collection.getElements().length);
+        assertThrows(IllegalArgumentException.class, () -> new IntCustomCollection(0));
+    }
+
+    @Test
+    void testAddGetSetAndRemove() {
+        for (int i = 0; i < 100; i++) {
+            collection.add(i);
+        }
+
+        assertEquals(100, collection.size());
+        assertEquals(42, collection.get(42));
+        assertEquals(42, collection.set(42, -1));
+        assertEquals(-1, collection.get(42));
+
+        collection.removeByIndex(0);
+        assertEquals(99, collection.size());
+        assertEquals(1, collection.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.get(99));
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.set(-1, 0));
+
+        collection.clear();
+        assertTrue(collection.isEmpty());
+    }
+
+    @Test
+    void testAddAllGrowsOnce() {
+        IntCustomCollection source = new IntCustomCollection();
+        for (int i = 0; i < 50; i++) {
+            source.add(i);
+        }
+        collection.add(-1);
+
+        collection.addAll(source);
+        collection.addAll(new int[]{7, 8, 9}, 1, 3);
+
+        assertEquals(53, collection.size());
+        assertEquals(-1, collection.get(0));
+        assertEquals(49, collection.get(50));
+        assertEquals(9, collection.get(52));
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.addAll(new int[2], 1, 3));
+    }
+
+    @Test
+    void testCopyRangeAndToArray() {
+        for (int i = 0; i < 5; i++) {
+            collection.add(i * 10);
+        }
+
+        IntCustomCollection range = collection.copyRange(1, 4);
+
+        assertArrayEquals(new int[]{10, 20, 30}, range.toArray());
+        assertTrue(collection.copyRange(2, 2).isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.copyRange(3, 6));
+    }
+
+    @Test
+    void testRemoveIfAndSort() {
+        int[] values = {5, 2, 8, 1, 9, 4};
+        collection.addAll(values, 0, values.length);
+
+        assertTrue(collection.removeIf(value -> value % 2 == 0));
+        assertFalse(collection.removeIf(value -> value > 100));
+        collection.sort();
+
+        assertArrayEquals(new int[]{1, 5, 9}, collection.toArray());
+        assertThrows(IllegalArgumentException.class, () -> collection.removeIf(null));
+    }
+
+    @Test
+    void testWrapUsesArrayWithoutCopying() {
+        int[] array = {3, 1, 2};
+
+        IntCustomCollection wrapped = IntCustomCollection.wrap(array, 2);
+
+        assertEquals(2, wrapped.size());
+        assertSame(array, wrapped.getElements());
+        assertThrows(IllegalArgumentException.class, () -> IntCustomCollection.wrap(array, 4));
+        assertThrows(IllegalArgumentException.class, () -> IntCustomCollection.wrap(new int[0], 0));
+    }
+
+    @Test
+    void testStreams() {
+        for (int i = 1; i <= 10_000; i++) {
+            collection.add(i);
+        }
+
+        assertEquals(50_005_000L, collection.stream().asLongStream().sum());
+        assertTrue(collection.parallelStream().isParallel());
+        assertEquals(5000, collection.parallelStream().filter(value -> value % 2 == 0).count());
+    }
+}
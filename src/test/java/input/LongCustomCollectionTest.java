@@ -0,0 +1,56 @@
+package input;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongCustomCollectionTest {
+
+    private LongCustomCollection collection;
+
+    @BeforeEach
+    void setUp() {
+        collection = new LongCustomCollection();
+    }
+
+    @Test
+    void testAddGetSetAndRemove() {
+        for (long i = 0; i < 100; i++) {
+            collection.add(i << 40);
+        }
+
+        assertEquals(100, collection.size());
+        assertEquals(42L << 40, collection.get(42));
+        assertEquals(42L << 40, collection.set(42, -1L));
+        collection.removeByIndex(42);
+        assertEquals(43L << 40, collection.get(42));
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.get(99));
+    }
+
+    @Test
+    void testBulkOperationsAndSort() {
+        long[] values = {79990000003L, 79990000001L, 79990000002L, 79990000004L};
+        collection.addAll(values, 0, values.length);
+        LongCustomCollection copy = collection.copyRange(0, 4);
+
+        assertTrue(collection.removeIf(value -> value == 79990000004L));
+        collection.sort();
+
+        assertArrayEquals(new long[]{79990000001L, 79990000002L, 79990000003L}, collection.toArray());
+        assertEquals(4, copy.size());
+        copy.addAll(collection);
+        assertEquals(7, copy.size());
+        assertEquals(79990000003L, copy.get(6));
+    }
+
+    @Test
+    void testStreams() {
+        for (long i = 1; i <= 1000; i++) {
+            collection.add(i);
+        }
+
+        assertEquals(500_500L, collection.stream().sum());
+        assertEquals(500_500L, collection.parallelStream().sum());
+    }
+}
@@ -0,0 +1,81 @@
+package sorting;
+
+import dto.Client;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AbbreviatedKeySortStrategyTest {
+
+    private static final String[] NAMES = {
+            "Иванов Иван", "Иванов Пётр", "Иванова Анна", "Ёлкин Ёж", "Ан", "Анна", "Алексей Смирнов", "Яшин Ян"
+    };
+
+    @Test
+    @DisplayName("sort с null-коллекцией не должен вызывать исключений")
+    void testSortWithNullCollection() {
+        new AbbreviatedKeySortStrategy().sort(null);
+        // Тест проходит, если не выброшено исключение
+    }
+
+    @Test
+    @DisplayName("Сокращенные ключи должны сохранять порядок String.compareTo")
+    void testKeysPreserveStringOrder() {
+        assertTrue(AbbreviatedKeySortStrategy.compactKey("Ан") < AbbreviatedKeySortStrategy.compactKey("Анна"));
+        assertTrue(AbbreviatedKeySortStrategy.compactKey("Ёлкин") < AbbreviatedKeySortStrategy.compactKey("Алексей"));
+        assertEquals(AbbreviatedKeySortStrategy.compactKey("Иванов Иван"),
+                AbbreviatedKeySortStrategy.compactKey("Иванова Анна"));
+        assertEquals(-1L, AbbreviatedKeySortStrategy.compactKey("\uFFFFимя"));
+        assertTrue(Long.compareUnsigned(AbbreviatedKeySortStrategy.wideKey("Яшин"),
+                AbbreviatedKeySortStrategy.wideKey("\uFFFF")) < 0);
+    }
+
+    @Test
+    @DisplayName("Результат должен совпадать с MergeSortDefaultStrategy, включая разрешение равных ключей по ID и телефону")
+    void testSortMatchesDefaultStrategy() {
+        Random random = new Random(8);
+        CustomCollection<Client> expected = new CustomCollection<>();
+        for (int i = 0; i < 3000; i++) {
+            expected.add(new Client.ClientBuilder()
+                    .name(NAMES[random.nextInt(NAMES.length)])
+                    .phoneNumber("+7999000000" + random.nextInt(10))
+                    .idNumber(random.nextInt(50))
+                    .build());
+        }
+        CustomCollection<Client> actual = new CustomCollection<>();
+        actual.addAll(expected);
+
+        new MergeSortDefaultStrategy().sort(expected);
+        new AbbreviatedKeySortStrategy().sort(actual);
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i), "Расхождение на позиции " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("sort должен работать с символами, не помещающимися в компактный ключ")
+    void testSortWithWideCharacters() {
+        CustomCollection<Client> clients = new CustomCollection<>();
+        clients.add(new Client.ClientBuilder().name("\uFFFF").phoneNumber("+7111").idNumber(1).build());
+        clients.add(new Client.ClientBuilder().name("Борис").phoneNumber("+7222").idNumber(2).build());
+        clients.add(new Client.ClientBuilder().name("Анна").phoneNumber("+7333").idNumber(3).build());
+
+        new AbbreviatedKeySortStrategy().sort(clients);
+
+        assertEquals("Анна", clients.get(0).getName());
+        assertEquals("Борис", clients.get(1).getName());
+        assertEquals("\uFFFF", clients.get(2).getName());
+    }
+
+    @Test
+    @DisplayName("getStrategyName должен возвращать ожидаемую строку")
+    void testGetStrategyName() {
+        assertEquals("Abbreviated Key Merge Sort (сортировка по имени -> ID -> телефону с сокращенными ключами)",
+                new AbbreviatedKeySortStrategy().getStrategyName());
+    }
+}
@@ -5,9 +5,13 @@ import input.CustomCollection;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class AbstractMergeSortStrategyTest {
 
@@ -161,4 +165,29 @@ class AbstractMergeSortStrategyTest {
         assertEquals(6, clients.get(1).getIdNumber());
         assertEquals(4, clients.get(2).getIdNumber());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("sortWithComparator должен стабильно сортировать большую коллекцию так же, как List.sort")
+    void testSortWithComparatorMatchesListSortOnLargeCollection() {
+        AbstractMergeSortStrategy strategy = new TestMergeSortStrategy();
+        CustomCollection<Client> clients = new CustomCollection<>();
+        List<Client> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 1000; i++) {
+            Client client = new Client.ClientBuilder().name("Клиент").phoneNumber("+7" + i)
+                    .idNumber(random.nextInt(50)).build();
+            clients.add(client);
+            expected.add(client);
+        }
+
+        Comparator<Client> idComparator = Comparator.comparingInt(Client::getIdNumber);
+        strategy.sortWithComparator(clients, idComparator);
+        expected.sort(idComparator);
+
+        // Равные ID должны остаться в исходном порядке добавления
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), clients.get(i));
+        }
+    }
+}
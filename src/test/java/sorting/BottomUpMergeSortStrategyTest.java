@@ -0,0 +1,89 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static sorting.TestClients.randomClients;
+import static sorting.TestClients.toList;
+
+class BottomUpMergeSortStrategyTest {
+
+    @Test
+    @DisplayName("sort с null-коллекцией не должен вызывать исключений")
+    void testSortWithNullCollection() {
+        new BottomUpMergeSortStrategy().sort(null);
+        // Тест проходит, если не выброшено исключение
+    }
+
+    @Test
+    @DisplayName("Конструктор с null-компаратором должен выбрасывать IllegalArgumentException")
+    void testConstructorWithNullComparatorThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BottomUpMergeSortStrategy((Comparator<Client>) null));
+    }
+
+    @Test
+    @DisplayName("sort по умолчанию должен сортировать по имени -> ID -> телефону")
+    void testSortWithDefaultOrder() {
+        BottomUpMergeSortStrategy strategy = new BottomUpMergeSortStrategy();
+        CustomCollection<Client> clients = new CustomCollection<>();
+
+        clients.add(new Client.ClientBuilder().name("Сергей").phoneNumber("+7111").idNumber(3).build());
+        clients.add(new Client.ClientBuilder().name("Анна").phoneNumber("+7222").idNumber(2).build());
+        clients.add(new Client.ClientBuilder().name("Анна").phoneNumber("+7333").idNumber(1).build());
+
+        strategy.sort(clients);
+
+        assertEquals(1, clients.get(0).getIdNumber());
+        assertEquals(2, clients.get(1).getIdNumber());
+        assertEquals("Сергей", clients.get(2).getName());
+    }
+
+    @Test
+    @DisplayName("sort должен давать тот же стабильный порядок, что и List.sort, для разных размеров")
+    void testSortMatchesListSortForVariousSizes() {
+        Comparator<Client> idComparator = Comparator.comparingInt(Client::getIdNumber);
+        BottomUpMergeSortStrategy strategy = new BottomUpMergeSortStrategy(idComparator);
+
+        for (int size : new int[]{2, 31, 32, 33, 64, 100, 1000, 4097}) {
+            CustomCollection<Client> clients = randomClients(size, 20, size);
+            List<Client> expected = toList(clients);
+            expected.sort(idComparator);
+
+            strategy.sort(clients);
+
+            for (int i = 0; i < size; i++) {
+                assertSame(expected.get(i), clients.get(i), "Неверный порядок при размере " + size);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("sort по полю в порядке убывания должен совпадать с MergeSortDynamicStrategy")
+    void testSortByFieldDescendingMatchesDynamicStrategy() {
+        CustomCollection<Client> expected = randomClients(500, 1000, 7);
+        CustomCollection<Client> actual = new CustomCollection<>();
+        actual.addAll(expected);
+
+        new MergeSortDynamicStrategy(Field.ID_NUMBER, false).sort(expected);
+        new BottomUpMergeSortStrategy(Field.ID_NUMBER, false).sort(actual);
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("getStrategyName должен возвращать ожидаемую строку")
+    void testGetStrategyName() {
+        assertEquals("Bottom-Up Merge Sort (итеративная сортировка слиянием)",
+                new BottomUpMergeSortStrategy().getStrategyName());
+    }
+}
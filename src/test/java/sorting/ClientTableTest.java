@@ -0,0 +1,82 @@
+package sorting;
+
+import dto.Client;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientTableTest {
+
+    private static Client client(String name, String phone, int id) {
+        return new Client.ClientBuilder().name(name).phoneNumber(phone).idNumber(id).build();
+    }
+
+    @Test
+    @DisplayName("Строки таблицы должны возвращать те же данные, что и исходные клиенты")
+    void testRowsKeepClientData() {
+        CustomCollection<Client> clients = new CustomCollection<>();
+        clients.add(client("Иванов Иван Иванович", "+79991234567", -5));
+        clients.add(client("", "+70000000001", 7));
+        clients.add(client("Ёлкин Ёж", "+79990000000", Integer.MAX_VALUE));
+
+        ClientTable table = ClientTable.of(clients);
+
+        assertEquals(3, table.size());
+        assertEquals(1, table.getPackedPhone(1));
+        CustomCollection<Client> views = table.toCollection();
+        for (int row = 0; row < clients.size(); row++) {
+            assertEquals(clients.get(row).getName(), views.get(row).getName());
+            assertEquals(clients.get(row).getPhoneNumber(), views.get(row).getPhoneNumber());
+            assertEquals(clients.get(row).getIdNumber(), views.get(row).getIdNumber());
+        }
+        assertEquals("Иванов", table.getClient(0).getLastName());
+    }
+
+    @Test
+    @DisplayName("Имена должны сравниваться в порядке String.compareTo")
+    void testCompareNamesMatchesStringOrder() {
+        String[] names = {"Ан", "Анна", "Ёж", "Яков", "ан", ""};
+        ClientTable table = new ClientTable(1);
+        for (int i = 0; i < names.length; i++) {
+            table.add(client(names[i], "+79990000000", i));
+        }
+
+        for (int i = 0; i < names.length; i++) {
+            for (int j = 0; j < names.length; j++) {
+                assertEquals(Integer.signum(names[i].compareTo(names[j])), Integer.signum(table.compareNames(i, j)));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Клиенты без имени или с телефоном другого формата не должны приниматься")
+    void testAddRejectsInvalidClients() {
+        ClientTable table = new ClientTable();
+
+        assertThrows(IllegalArgumentException.class, () -> table.add(null));
+        assertThrows(IllegalArgumentException.class, () -> table.add(client(null, "+79990000000", 1)));
+        assertThrows(IllegalArgumentException.class, () -> table.add(client("Иван", "89990000000", 1)));
+        assertThrows(IllegalArgumentException.class, () -> new ClientTable(0));
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    @DisplayName("reorder должен переставлять все столбцы согласованно")
+    void testReorderMovesAllColumns() {
+        ClientTable table = new ClientTable();
+        table.add(client("Борис", "+79990000002", 2));
+        table.add(client("Анна", "+79990000001", 1));
+        table.add(client("Вера", "+79990000003", 3));
+
+        table.reorder(new int[]{1, 0, 2});
+
+        assertEquals("Анна", table.getName(0));
+        assertEquals("+79990000001", table.getPhoneNumber(0));
+        assertEquals(1, table.getIdNumber(0));
+        assertEquals("Борис", table.getName(1));
+        assertEquals("Вера", table.getName(2));
+        assertThrows(IllegalArgumentException.class, () -> table.reorder(new int[2]));
+    }
+}
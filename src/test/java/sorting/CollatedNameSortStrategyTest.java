@@ -0,0 +1,100 @@
+package sorting;
+
+import dto.Client;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollatedNameSortStrategyTest {
+
+    private static CustomCollection<Client> clientsWithNames(String... names) {
+        CustomCollection<Client> clients = new CustomCollection<>();
+        for (int i = 0; i < names.length; i++) {
+            clients.add(new Client.ClientBuilder().name(names[i]).phoneNumber("+7" + i).idNumber(i).build());
+        }
+        return clients;
+    }
+
+    @Test
+    @DisplayName("sort с null-коллекцией не должен вызывать исключений")
+    void testSortWithNullCollection() {
+        new CollatedNameSortStrategy().sort(null);
+        // Тест проходит, если не выброшено исключение
+    }
+
+    @Test
+    @DisplayName("sort должен ставить Ё рядом с Е, а не после Я")
+    void testSortPlacesYoNextToYe() {
+        CustomCollection<Client> clients = clientsWithNames("Яна Белова", "Ёлкин Иван", "Жанна Орлова", "Елена Котова", "Алла Ершова");
+
+        new CollatedNameSortStrategy().sort(clients);
+
+        assertEquals("Алла Ершова", clients.get(0).getName());
+        assertEquals("Елена Котова", clients.get(1).getName());
+        assertEquals("Ёлкин Иван", clients.get(2).getName());
+        assertEquals("Жанна Орлова", clients.get(3).getName());
+        assertEquals("Яна Белова", clients.get(4).getName());
+    }
+
+    @Test
+    @DisplayName("sort должен совпадать со стабильной сортировкой через Collator в обоих направлениях")
+    void testSortMatchesCollator() {
+        Collator collator = Collator.getInstance(Locale.of("ru", "RU"));
+        String[] names = {"Ёжиков Пётр", "Ежов Иван", "Елена Ёлкина", "Яков Ильин", "Андрей Щукин", "ёлка", "Ёлка", "Елка"};
+        Random random = new Random(51);
+
+        for (boolean ascending : new boolean[]{true, false}) {
+            CustomCollection<Client> clients = new CustomCollection<>();
+            List<Client> expected = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                Client client = new Client.ClientBuilder()
+                        .name(names[random.nextInt(names.length)])
+                        .phoneNumber("+7" + i)
+                        .idNumber(i)
+                        .build();
+                clients.add(client);
+                expected.add(client);
+            }
+            expected.sort((c1, c2) -> ascending
+                    ? collator.compare(c1.getName(), c2.getName())
+                    : collator.compare(c2.getName(), c1.getName()));
+
+            CollatedNameSortStrategy strategy = new CollatedNameSortStrategy(ascending);
+            strategy.sort(clients);
+
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i), clients.get(i), "Расхождение на позиции " + i);
+            }
+            assertEquals(names.length, strategy.cachedKeys());
+        }
+    }
+
+    @Test
+    @DisplayName("Ключи должны переиспользоваться при повторной сортировке")
+    void testKeysAreCached() {
+        CollatedNameSortStrategy strategy = new CollatedNameSortStrategy();
+        CustomCollection<Client> clients = clientsWithNames("Борис", "Анна", "Борис");
+
+        strategy.sort(clients);
+        byte[] key = strategy.keyOf("Анна");
+        strategy.sort(clients);
+
+        assertSame(key, strategy.keyOf("Анна"));
+        assertEquals(2, strategy.cachedKeys());
+    }
+
+    @Test
+    @DisplayName("getOrdering должен возвращать равные компараторы для одного направления")
+    void testGetOrdering() {
+        assertEquals(new CollatedNameSortStrategy().getOrdering(), new CollatedNameSortStrategy(true).getOrdering());
+        assertNotEquals(new CollatedNameSortStrategy().getOrdering(), new CollatedNameSortStrategy(false).getOrdering());
+    }
+}
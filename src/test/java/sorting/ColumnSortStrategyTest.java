@@ -0,0 +1,76 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static sorting.TestClients.randomClients;
+
+class ColumnSortStrategyTest {
+
+    /**
+     * Случайные клиенты и клиенты с крайними значениями ключей: отрицательными и предельными ID
+     * и наименьшим и наибольшим телефоном.
+     */
+    private static CustomCollection<Client> clientsWithExtremeKeys(int count, long seed) {
+        CustomCollection<Client> clients = randomClients(count, seed);
+        int[] ids = {Integer.MIN_VALUE, Integer.MAX_VALUE, -1, 0, Integer.MIN_VALUE / 2};
+        String[] phones = {"+70000000000", "+79999999999"};
+        for (int i = 0; i < ids.length * 2; i++) {
+            clients.add(new Client.ClientBuilder()
+                    .name(TestClients.NAMES[i % TestClients.NAMES.length])
+                    .phoneNumber(phones[i % phones.length])
+                    .idNumber(ids[i % ids.length])
+                    .build());
+        }
+        return clients;
+    }
+
+    private static void assertSameOrder(CustomCollection<Client> expected, ClientTable table) {
+        assertEquals(expected.size(), table.size());
+        for (int row = 0; row < table.size(); row++) {
+            assertEquals(expected.get(row).getName(), table.getName(row));
+            assertEquals(expected.get(row).getPhoneNumber(), table.getPhoneNumber(row));
+            assertEquals(expected.get(row).getIdNumber(), table.getIdNumber(row));
+        }
+    }
+
+    @Test
+    @DisplayName("Сортировка по столбцам должна совпадать со стабильной сортировкой слиянием")
+    void testSortMatchesMergeSort() {
+        long seed = 1;
+        for (Field field : new Field[]{Field.ID_NUMBER, Field.PHONE_NUMBER, Field.NAME}) {
+            for (boolean ascending : new boolean[]{true, false}) {
+                CustomCollection<Client> clients = clientsWithExtremeKeys(2000, seed++);
+                ClientTable table = ClientTable.of(clients);
+
+                new ColumnSortStrategy(field, ascending).sort(table);
+                new MergeSortDynamicStrategy(field, ascending).sort(clients);
+
+                assertSameOrder(clients, table);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Пустая таблица и таблица из одной строки должны обрабатываться без ошибок")
+    void testSortEmptyAndSingleRow() {
+        ClientTable table = new ClientTable();
+        new ColumnSortStrategy().sort(table);
+        new ColumnSortStrategy().sort(null);
+
+        table.add(new Client.ClientBuilder().name("Ян").phoneNumber("+79990000000").idNumber(1).build());
+        new ColumnSortStrategy(Field.NAME, false).sort(table);
+        assertEquals("Ян", table.getName(0));
+    }
+
+    @Test
+    @DisplayName("Поле, которого нет среди столбцов, должно приводить к IllegalArgumentException")
+    void testUnsupportedFieldThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new ColumnSortStrategy(Field.LAST_NAME, true));
+        assertThrows(IllegalArgumentException.class, () -> new ColumnSortStrategy(null, true));
+    }
+}
@@ -0,0 +1,118 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DualPivotQuickSortStrategyTest {
+
+    private static CustomCollection<Client> clientsWithIds(int[] ids) {
+        CustomCollection<Client> clients = new CustomCollection<>();
+        for (int i = 0; i < ids.length; i++) {
+            clients.add(new Client.ClientBuilder().name("Клиент").phoneNumber("+7" + i).idNumber(ids[i]).build());
+        }
+        return clients;
+    }
+
+    private static void assertSortedPermutation(CustomCollection<Client> before, CustomCollection<Client> after,
+                                                Comparator<Client> comparator) {
+        Map<Client, Integer> counts = new HashMap<>();
+        for (Client client : before) {
+            counts.merge(client, 1, Integer::sum);
+        }
+        for (int i = 0; i < after.size(); i++) {
+            counts.merge(after.get(i), -1, Integer::sum);
+            if (i > 0) {
+                assertTrue(comparator.compare(after.get(i - 1), after.get(i)) <= 0, "Нарушен порядок на позиции " + i);
+            }
+        }
+        for (int count : counts.values()) {
+            assertEquals(0, count, "Сортировка должна сохранять состав коллекции");
+        }
+    }
+
+    @Test
+    @DisplayName("sort с null-коллекцией не должен вызывать исключений")
+    void testSortWithNullCollection() {
+        new DualPivotQuickSortStrategy().sort(null);
+        // Тест проходит, если не выброшено исключение
+    }
+
+    @Test
+    @DisplayName("Конструктор с null-компаратором должен выбрасывать IllegalArgumentException")
+    void testConstructorWithNullComparatorThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DualPivotQuickSortStrategy((Comparator<Client>) null));
+    }
+
+    @Test
+    @DisplayName("sort должен упорядочивать случайные, повторяющиеся, упорядоченные и обратные данные")
+    void testSortVariousInputs() {
+        Random random = new Random(41);
+        for (int size : new int[]{2, 26, 27, 100, 1000, 20000}) {
+            int[][] patterns = new int[5][size];
+            for (int i = 0; i < size; i++) {
+                patterns[0][i] = random.nextInt();
+                patterns[1][i] = random.nextInt(3);
+                patterns[2][i] = i;
+                patterns[3][i] = size - i;
+                patterns[4][i] = i % 2 == 0 ? i : size - i;
+            }
+            for (boolean ascending : new boolean[]{true, false}) {
+                Comparator<Client> comparator = SortSpec.of(Field.ID_NUMBER, ascending).toComparator();
+                for (int[] ids : patterns) {
+                    CustomCollection<Client> before = clientsWithIds(ids);
+                    CustomCollection<Client> clients = clientsWithIds(new int[0]);
+                    clients.addAll(before);
+
+                    new DualPivotQuickSortStrategy(Field.ID_NUMBER, ascending).sort(clients);
+
+                    assertSortedPermutation(before, clients, comparator);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("sort не должен деградировать до квадратичного числа сравнений на данных с повторами")
+    void testSortComparisonsStayLogLinear() {
+        int size = 20000;
+        int[] comparisons = new int[1];
+        Comparator<Client> comparator = (c1, c2) -> {
+            comparisons[0]++;
+            return Integer.compare(c1.getIdNumber(), c2.getIdNumber());
+        };
+        int[] ids = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = (i * 7919) % 101;
+        }
+        CustomCollection<Client> before = clientsWithIds(ids);
+        CustomCollection<Client> clients = clientsWithIds(new int[0]);
+        clients.addAll(before);
+
+        new DualPivotQuickSortStrategy(comparator).sort(clients);
+
+        assertSortedPermutation(before, clients, comparator);
+        assertTrue(comparisons[0] < 100L * size, "Сравнений: " + comparisons[0]);
+    }
+
+    @Test
+    @DisplayName("Стратегия должна быть помечена как нестабильная")
+    void testIsNotStable() {
+        DualPivotQuickSortStrategy strategy = new DualPivotQuickSortStrategy(Field.PHONE_NUMBER, true);
+
+        assertFalse(strategy.isStable());
+        assertTrue(new MergeSortDefaultStrategy().isStable());
+        assertEquals(SortSpec.of(Field.PHONE_NUMBER, true).toComparator(), strategy.getOrdering());
+        assertTrue(strategy.getStrategyName().contains("нестабильная"));
+    }
+}
@@ -0,0 +1,182 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import input.strategy.FileReaderStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static sorting.TestClients.randomClients;
+
+class ExternalMergeSorterTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("external-sort-test");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private Path writeClientsFile(int count, long seed) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Client client : randomClients(count, seed)) {
+            lines.add(client.getName() + "|" + client.getPhoneNumber() + "|" + client.getIdNumber());
+        }
+        Path input = directory.resolve("input.txt");
+        Files.write(input, lines, StandardCharsets.UTF_8);
+        return input;
+    }
+
+    private static List<String> sortInMemory(Path input, Comparator<Client> comparator) {
+        CustomCollection<Client> clients = new FileReaderStrategy(input.toString()).getData();
+        new MergeSortDefaultStrategy().sortWithComparator(clients, comparator);
+        List<String> lines = new ArrayList<>();
+        for (Client client : clients) {
+            lines.add(client.getName() + "|" + client.getPhoneNumber() + "|" + client.getIdNumber());
+        }
+        return lines;
+    }
+
+    @Test
+    @DisplayName("Конструктор с некорректными параметрами должен выбрасывать IllegalArgumentException")
+    void testConstructorWithInvalidParametersThrowsException() {
+        Comparator<Client> comparator = new MergeSortDefaultStrategy().getComparator();
+        assertThrows(IllegalArgumentException.class, () -> new ExternalMergeSorter(null, 1024, 4));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalMergeSorter(comparator, 0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalMergeSorter(comparator, 1024, 1));
+    }
+
+    @Test
+    @DisplayName("sort несуществующего файла должен выбрасывать IOException")
+    void testSortMissingFileThrowsException() {
+        assertThrows(IOException.class,
+                () -> new ExternalMergeSorter().sort(directory.resolve("missing.txt"), directory.resolve("out.txt")));
+    }
+
+    @Test
+    @DisplayName("Файл, поместившийся в бюджет, должен сортироваться без временных серий")
+    void testSortSmallFileInMemory() throws IOException {
+        Path input = writeClientsFile(200, 1);
+        Path output = directory.resolve("output.txt");
+
+        long count = new ExternalMergeSorter(new MergeSortDefaultStrategy().getComparator(),
+                ExternalMergeSorter.DEFAULT_MEMORY_BUDGET, 4, directory).sort(input, output);
+
+        assertEquals(200, count);
+        assertEquals(sortInMemory(input, new MergeSortDefaultStrategy().getComparator()),
+                Files.readAllLines(output, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Малый бюджет и fan-in должны давать многопроходное слияние с тем же результатом")
+    void testSortWithManyRunsAndMultiPassMerge() throws IOException {
+        Path input = writeClientsFile(3000, 2);
+        Path output = directory.resolve("output.txt");
+        Comparator<Client> comparator = new MergeSortDynamicStrategy(Field.ID_NUMBER, false).getComparator();
+
+        long count = new ExternalMergeSorter(comparator, 4096, 3, directory).sort(input, output);
+
+        assertEquals(3000, count);
+        assertEquals(sortInMemory(input, comparator), Files.readAllLines(output, StandardCharsets.UTF_8));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count(), "Временные серии должны быть удалены");
+        }
+    }
+
+    @Test
+    @DisplayName("Некорректные строки должны пропускаться")
+    void testSortSkipsInvalidLines() throws IOException {
+        Path input = directory.resolve("input.txt");
+        Files.write(input, List.of("Яшин Ян|+79990000002|2", "неверная строка", "", "Иванов Иван|+79990000001|1"),
+                StandardCharsets.UTF_8);
+        Path output = directory.resolve("output.txt");
+
+        long count = new ExternalMergeSorter(new MergeSortDefaultStrategy().getComparator(), 1, 2, directory)
+                .sort(input, output);
+
+        assertEquals(2, count);
+        assertEquals(List.of("Иванов Иван|+79990000001|1", "Яшин Ян|+79990000002|2"),
+                Files.readAllLines(output, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Строка серии должна читаться без повторной проверки, а поврежденная — приводить к IOException")
+    void testReadClientFromRunLine() throws IOException {
+        Client client = ExternalMergeSorter.readClient("Ёлкин Ёж|+79990000003|-7");
+
+        assertEquals("Ёлкин Ёж", client.getName());
+        assertEquals("+79990000003", client.getPhoneNumber());
+        assertEquals(-7, client.getIdNumber());
+        assertThrows(IOException.class, () -> ExternalMergeSorter.readClient("Ёлкин Ёж|+79990000003"));
+        assertThrows(IOException.class, () -> ExternalMergeSorter.readClient("Ёлкин Ёж|+79990000003|ID"));
+    }
+
+    @Test
+    @DisplayName("closeAll должен закрывать все ресурсы и не заменять основную ошибку ошибкой закрытия")
+    void testCloseAllClosesEveryResource() {
+        List<String> closed = new ArrayList<>();
+        Closeable failing = () -> {
+            closed.add("failing");
+            throw new IOException("закрытие");
+        };
+        Closeable last = () -> closed.add("last");
+
+        IOException failure = new IOException("слияние");
+        assertDoesNotThrow(() -> ExternalMergeSorter.closeAll(List.of(failing, failing, last), failure));
+        assertEquals(List.of("failing", "failing", "last"), closed);
+        assertEquals(2, failure.getSuppressed().length);
+
+        closed.clear();
+        IOException thrown = assertThrows(IOException.class,
+                () -> ExternalMergeSorter.closeAll(List.of(failing, failing, last), null));
+        assertEquals("закрытие", thrown.getMessage());
+        assertEquals(1, thrown.getSuppressed().length);
+        assertEquals(List.of("failing", "failing", "last"), closed);
+    }
+
+    @Test
+    @DisplayName("deleteAll должен удалять все файлы и не заменять основную ошибку ошибкой удаления")
+    void testDeleteAllDeletesEveryFile() throws IOException {
+        // Непустой каталог удалить нельзя — так имитируется ошибка удаления
+        Path undeletable = Files.createDirectory(directory.resolve("undeletable"));
+        Path nested = Files.createFile(undeletable.resolve("nested.txt"));
+        Path first = Files.createFile(directory.resolve("first.txt"));
+        Path second = Files.createFile(directory.resolve("second.txt"));
+
+        IOException failure = new IOException("сортировка");
+        assertDoesNotThrow(() -> ExternalMergeSorter.deleteAll(List.of(first, undeletable, second), failure));
+        assertFalse(Files.exists(first));
+        assertFalse(Files.exists(second));
+        assertEquals(1, failure.getSuppressed().length);
+
+        Path third = Files.createFile(directory.resolve("third.txt"));
+        assertThrows(IOException.class, () -> ExternalMergeSorter.deleteAll(List.of(undeletable, third), null));
+        assertFalse(Files.exists(third));
+
+        Files.delete(nested);
+    }
+}
@@ -0,0 +1,107 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static sorting.TestClients.randomClients;
+import static sorting.TestClients.toList;
+
+class FanOutSorterTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("fan-out-sort-test");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private static List<String> sortInMemory(CustomCollection<Client> clients, Comparator<Client> comparator) {
+        CustomCollection<Client> copy = new CustomCollection<>();
+        copy.addAll(clients);
+        new MergeSortDefaultStrategy().sortWithComparator(copy, comparator);
+        List<String> lines = new ArrayList<>();
+        for (Client client : copy) {
+            lines.add(client.getName() + "|" + client.getPhoneNumber() + "|" + client.getIdNumber());
+        }
+        return lines;
+    }
+
+    @Test
+    @DisplayName("Конструктор с количеством потоков меньше 1 должен выбрасывать IllegalArgumentException")
+    void testConstructorWithInvalidThreadsThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new FanOutSorter(0));
+    }
+
+    @Test
+    @DisplayName("sort без порядков должен выбрасывать IllegalArgumentException")
+    void testSortWithoutOutputsThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new FanOutSorter().sort(randomClients(5, 1), Map.of()));
+    }
+
+    @Test
+    @DisplayName("Каждый порядок должен записываться в свой файл так же, как при сортировке в памяти")
+    void testSortWritesEveryOrdering() throws IOException {
+        CustomCollection<Client> clients = randomClients(2000, 2);
+        Map<SortSpec, Path> outputs = new LinkedHashMap<>();
+        outputs.put(SortSpec.of(Field.NAME, true), directory.resolve("name.txt"));
+        outputs.put(SortSpec.of(Field.ID_NUMBER, false), directory.resolve("id.txt"));
+        outputs.put(new SortSpec.Builder().then(Field.PHONE_NUMBER, true).then(Field.ID_NUMBER, true).build(),
+                directory.resolve("phone.txt"));
+
+        new FanOutSorter(2).sort(clients, outputs);
+
+        for (Map.Entry<SortSpec, Path> output : outputs.entrySet()) {
+            assertEquals(sortInMemory(clients, output.getKey().toComparator()),
+                    Files.readAllLines(output.getValue(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("sort не должен менять исходную коллекцию")
+    void testSortLeavesSourceUnchanged() throws IOException {
+        CustomCollection<Client> clients = randomClients(300, 3);
+        List<Client> before = toList(clients);
+
+        new FanOutSorter().sort(clients, Map.of(SortSpec.of(Field.PHONE_NUMBER, true), directory.resolve("out.txt")));
+
+        for (int i = 0; i < before.size(); i++) {
+            assertSame(before.get(i), clients.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Ошибка записи должна пробрасываться как IOException")
+    void testSortRethrowsWriteError() {
+        Path missing = directory.resolve("missing").resolve("out.txt");
+
+        assertThrows(IOException.class,
+                () -> new FanOutSorter().sort(randomClients(10, 4), Map.of(SortSpec.of(Field.NAME, true), missing)));
+    }
+}
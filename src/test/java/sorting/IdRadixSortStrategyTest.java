@@ -0,0 +1,101 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdRadixSortStrategyTest {
+
+    private static CustomCollection<Client> clientsWithIds(int... ids) {
+        CustomCollection<Client> clients = new CustomCollection<>();
+        for (int i = 0; i < ids.length; i++) {
+            clients.add(new Client.ClientBuilder().name("Клиент").phoneNumber("+7" + i).idNumber(ids[i]).build());
+        }
+        return clients;
+    }
+
+    private static void assertSameOrder(CustomCollection<Client> expected, CustomCollection<Client> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i), "Расхождение на позиции " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("sort с null-коллекцией не должен вызывать исключений")
+    void testSortWithNullCollection() {
+        new IdRadixSortStrategy().sort(null);
+        // Тест проходит, если не выброшено исключение
+    }
+
+    @Test
+    @DisplayName("sort должен сортировать ID по возрастанию и по убыванию")
+    void testSortAscendingAndDescending() {
+        CustomCollection<Client> clients = clientsWithIds(5, 1, 999, 0, 42);
+
+        new IdRadixSortStrategy(true).sort(clients);
+        assertArrayEquals(new int[]{0, 1, 5, 42, 999}, clients.stream().mapToInt(Client::getIdNumber).toArray());
+
+        new IdRadixSortStrategy(false).sort(clients);
+        assertArrayEquals(new int[]{999, 42, 5, 1, 0}, clients.stream().mapToInt(Client::getIdNumber).toArray());
+    }
+
+    @Test
+    @DisplayName("sort должен корректно обрабатывать отрицательные и крайние значения int")
+    void testSortHandlesFullIntRange() {
+        CustomCollection<Client> clients = clientsWithIds(
+                Integer.MAX_VALUE, -1, 0, Integer.MIN_VALUE, 1 << 20, -(1 << 24), 7);
+
+        new IdRadixSortStrategy().sort(clients);
+
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -(1 << 24), -1, 0, 7, 1 << 20, Integer.MAX_VALUE},
+                clients.stream().mapToInt(Client::getIdNumber).toArray());
+    }
+
+    @Test
+    @DisplayName("Результат должен совпадать со стабильной MergeSortDynamicStrategy для узкого и широкого диапазонов")
+    void testSortMatchesDynamicStrategy() {
+        Random random = new Random(11);
+        for (int bound : new int[]{1000, Integer.MAX_VALUE}) {
+            for (boolean ascending : new boolean[]{true, false}) {
+                int[] ids = new int[5000];
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = bound == 1000 ? random.nextInt(bound) : random.nextInt();
+                }
+                CustomCollection<Client> expected = clientsWithIds(ids);
+                CustomCollection<Client> actual = new CustomCollection<>();
+                actual.addAll(expected);
+
+                new MergeSortDynamicStrategy(Field.ID_NUMBER, ascending).sort(expected);
+                new IdRadixSortStrategy(ascending).sort(actual);
+
+                assertSameOrder(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("sortEvenValuesOnly должен сортировать только четные ID, оставляя нечетные на месте")
+    void testSortEvenValuesOnly() {
+        CustomCollection<Client> clients = clientsWithIds(1, 8, 3, 4, -2, 5);
+
+        new IdRadixSortStrategy().sortEvenValuesOnly(clients);
+
+        assertArrayEquals(new int[]{1, -2, 3, 4, 8, 5}, clients.stream().mapToInt(Client::getIdNumber).toArray());
+    }
+
+    @Test
+    @DisplayName("getStrategyName должен указывать направление сортировки")
+    void testGetStrategyName() {
+        assertEquals("ID Radix Sort (поразрядная сортировка по ID, по возрастанию)",
+                new IdRadixSortStrategy().getStrategyName());
+        assertEquals("ID Radix Sort (поразрядная сортировка по ID, по убыванию)",
+                new IdRadixSortStrategy(false).getStrategyName());
+    }
+}
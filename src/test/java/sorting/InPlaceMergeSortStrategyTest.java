@@ -0,0 +1,87 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InPlaceMergeSortStrategyTest {
+
+    @Test
+    @DisplayName("sort с null-коллекцией не должен вызывать исключений")
+    void testSortWithNullCollection() {
+        new InPlaceMergeSortStrategy().sort(null);
+        // Тест проходит, если не выброшено исключение
+    }
+
+    @Test
+    @DisplayName("Конструктор с некорректными параметрами должен выбрасывать IllegalArgumentException")
+    void testConstructorWithInvalidParametersThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new InPlaceMergeSortStrategy((Comparator<Client>) null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new InPlaceMergeSortStrategy(SortSpec.of(Field.NAME, true).toComparator(), -2));
+    }
+
+    @Test
+    @DisplayName("sort должен быть стабильным при любом размере буфера")
+    void testSortIsStableWithAnyBufferSize() {
+        Random random = new Random(31);
+        Comparator<Client> comparator = SortSpec.of(Field.ID_NUMBER, true).toComparator();
+
+        for (int bufferSize : new int[]{0, 1, 5, InPlaceMergeSortStrategy.DEFAULT_BUFFER_SIZE}) {
+            for (int size : new int[]{2, 31, 33, 64, 100, 1000, 5000}) {
+                CustomCollection<Client> clients = new CustomCollection<>();
+                List<Client> expected = new ArrayList<>();
+                int idBound = random.nextBoolean() ? 10 : size * 10;
+                for (int i = 0; i < size; i++) {
+                    Client client = new Client.ClientBuilder()
+                            .name("Клиент")
+                            .phoneNumber("+7999" + i)
+                            .idNumber(random.nextInt(idBound))
+                            .build();
+                    clients.add(client);
+                    expected.add(client);
+                }
+                expected.sort(comparator);
+
+                new InPlaceMergeSortStrategy(comparator, bufferSize).sort(clients);
+
+                for (int i = 0; i < size; i++) {
+                    assertSame(expected.get(i), clients.get(i),
+                            "Буфер " + bufferSize + ", размер " + size + ": расхождение на позиции " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("sort по умолчанию должен сортировать по имени -> ID -> телефону")
+    void testSortWithDefaultOrder() {
+        CustomCollection<Client> clients = new CustomCollection<>();
+        clients.add(new Client.ClientBuilder().name("Сергей").phoneNumber("+7111").idNumber(3).build());
+        clients.add(new Client.ClientBuilder().name("Анна").phoneNumber("+7222").idNumber(2).build());
+        clients.add(new Client.ClientBuilder().name("Анна").phoneNumber("+7333").idNumber(1).build());
+
+        new InPlaceMergeSortStrategy().sort(clients);
+
+        assertEquals(1, clients.get(0).getIdNumber());
+        assertEquals(2, clients.get(1).getIdNumber());
+        assertEquals("Сергей", clients.get(2).getName());
+    }
+
+    @Test
+    @DisplayName("getStrategyName должен возвращать название стратегии")
+    void testGetStrategyName() {
+        assertEquals("In-Place Merge Sort (сортировка слиянием на месте)",
+                new InPlaceMergeSortStrategy().getStrategyName());
+    }
+}
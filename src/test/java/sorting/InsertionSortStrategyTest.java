@@ -0,0 +1,61 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InsertionSortStrategyTest {
+
+    @Test
+    @DisplayName("sort с null-коллекцией не должен вызывать исключений")
+    void testSortWithNullCollection() {
+        new InsertionSortStrategy().sort(null);
+        // Тест проходит, если не выброшено исключение
+    }
+
+    @Test
+    @DisplayName("Конструктор с null-компаратором должен выбрасывать IllegalArgumentException")
+    void testConstructorWithNullComparatorThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new InsertionSortStrategy((Comparator<Client>) null));
+    }
+
+    @Test
+    @DisplayName("sort должен давать тот же стабильный порядок, что и List.sort")
+    void testSortIsStable() {
+        Random random = new Random(7);
+        CustomCollection<Client> clients = new CustomCollection<>();
+        List<Client> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Client client = new Client.ClientBuilder()
+                    .name("Клиент")
+                    .phoneNumber("+7999" + i)
+                    .idNumber(random.nextInt(5))
+                    .build();
+            clients.add(client);
+            expected.add(client);
+        }
+        expected.sort(Comparator.comparing(Client::getIdNumber).reversed());
+
+        new InsertionSortStrategy(Field.ID_NUMBER, false).sort(clients);
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), clients.get(i), "Расхождение на позиции " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("getStrategyName должен возвращать название стратегии")
+    void testGetStrategyName() {
+        assertEquals("Insertion Sort (сортировка вставками)", new InsertionSortStrategy().getStrategyName());
+    }
+}
@@ -0,0 +1,101 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameRadixSortStrategyTest {
+
+    private static final String[] SURNAMES = {"Ёлкин", "Иванов", "Иваненко", "Петров", "Алексеев", "Яшин", "Ивановский"};
+    private static final String[] FIRST_NAMES = {"Алексей", "Ёж", "Иван", "Пётр", "Анна", "Ян"};
+
+    private static CustomCollection<Client> clientsWithNames(String... names) {
+        CustomCollection<Client> clients = new CustomCollection<>();
+        for (int i = 0; i < names.length; i++) {
+            clients.add(new Client.ClientBuilder().name(names[i]).phoneNumber("+79990000000").idNumber(i).build());
+        }
+        return clients;
+    }
+
+    @Test
+    @DisplayName("sort с null-коллекцией не должен вызывать исключений")
+    void testSortWithNullCollection() {
+        new NameRadixSortStrategy().sort(null);
+        // Тест проходит, если не выброшено исключение
+    }
+
+    @Test
+    @DisplayName("sort должен упорядочивать имена так же, как String.compareTo, включая Ё, ё и префиксы")
+    void testSortMatchesStringCompareTo() {
+        CustomCollection<Client> clients = clientsWithNames(
+                "Яшин Ян", "Ёлкин Ёж", "Иванов Иван", "Иванов Иван Петрович", "Иванов", "Иванова Анна", "Алёна Ли");
+
+        new NameRadixSortStrategy().sort(clients);
+
+        assertEquals("Ёлкин Ёж", clients.get(0).getName());
+        assertEquals("Алёна Ли", clients.get(1).getName());
+        assertEquals("Иванов", clients.get(2).getName());
+        assertEquals("Иванов Иван", clients.get(3).getName());
+        assertEquals("Иванов Иван Петрович", clients.get(4).getName());
+        assertEquals("Иванова Анна", clients.get(5).getName());
+        assertEquals("Яшин Ян", clients.get(6).getName());
+    }
+
+    @Test
+    @DisplayName("Результат должен совпадать со стабильной MergeSortDynamicStrategy в обоих направлениях")
+    void testSortMatchesDynamicStrategy() {
+        Random random = new Random(17);
+        String[] names = new String[4000];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = SURNAMES[random.nextInt(SURNAMES.length)] + " " + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]
+                    + (random.nextBoolean() ? "" : " " + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + "ович");
+        }
+
+        for (boolean ascending : new boolean[]{true, false}) {
+            CustomCollection<Client> expected = clientsWithNames(names);
+            CustomCollection<Client> actual = new CustomCollection<>();
+            actual.addAll(expected);
+
+            new MergeSortDynamicStrategy(Field.NAME, ascending).sort(expected);
+            new NameRadixSortStrategy(ascending).sort(actual);
+
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i), actual.get(i), "Расхождение на позиции " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("sort с символами вне кириллического алфавита должен сортировать как строки")
+    void testSortFallsBackForNonCyrillicNames() {
+        CustomCollection<Client> clients = clientsWithNames("Борис", "Alice", "Анна");
+
+        new NameRadixSortStrategy().sort(clients);
+
+        assertEquals("Alice", clients.get(0).getName());
+        assertEquals("Анна", clients.get(1).getName());
+        assertEquals("Борис", clients.get(2).getName());
+    }
+
+    @Test
+    @DisplayName("bucketOf должен сохранять порядок кодов символов")
+    void testBucketOfPreservesCharOrder() {
+        assertTrue(NameRadixSortStrategy.bucketOf(' ') < NameRadixSortStrategy.bucketOf('Ё'));
+        assertTrue(NameRadixSortStrategy.bucketOf('Ё') < NameRadixSortStrategy.bucketOf('А'));
+        assertTrue(NameRadixSortStrategy.bucketOf('я') < NameRadixSortStrategy.bucketOf('ё'));
+        assertEquals(-1, NameRadixSortStrategy.bucketOf('Z'));
+    }
+
+    @Test
+    @DisplayName("getStrategyName должен указывать направление сортировки")
+    void testGetStrategyName() {
+        assertEquals("Name MSD Radix Sort (поразрядная сортировка по имени, по убыванию)",
+                new NameRadixSortStrategy(false).getStrategyName());
+    }
+}
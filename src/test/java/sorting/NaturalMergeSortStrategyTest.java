@@ -0,0 +1,132 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NaturalMergeSortStrategyTest {
+
+    private static Client client(String name, int id) {
+        return new Client.ClientBuilder().name(name).phoneNumber("+79990000000").idNumber(id).build();
+    }
+
+    private static void assertSameOrderAsListSort(CustomCollection<Client> clients, Comparator<Client> comparator) {
+        List<Client> expected = new ArrayList<>();
+        clients.forEach(expected::add);
+        expected.sort(comparator);
+
+        new NaturalMergeSortStrategy(comparator).sort(clients);
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), clients.get(i), "Неверный элемент на позиции " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("sort с null-коллекцией не должен вызывать исключений")
+    void testSortWithNullCollection() {
+        new NaturalMergeSortStrategy().sort(null);
+        // Тест проходит, если не выброшено исключение
+    }
+
+    @Test
+    @DisplayName("sort должен сортировать по умолчанию по имени -> ID -> телефону")
+    void testSortWithDefaultOrder() {
+        CustomCollection<Client> clients = new CustomCollection<>();
+        clients.add(client("Сергей", 3));
+        clients.add(client("Анна", 2));
+        clients.add(client("Анна", 1));
+
+        new NaturalMergeSortStrategy().sort(clients);
+
+        assertEquals(1, clients.get(0).getIdNumber());
+        assertEquals(2, clients.get(1).getIdNumber());
+        assertEquals("Сергей", clients.get(2).getName());
+    }
+
+    @Test
+    @DisplayName("sort уже отсортированной коллекции должен выполнять линейное число сравнений")
+    void testSortPresortedUsesLinearComparisons() {
+        CustomCollection<Client> clients = new CustomCollection<>();
+        for (int i = 0; i < 10_000; i++) {
+            clients.add(client("Клиент", i));
+        }
+        int[] comparisons = {0};
+        Comparator<Client> countingComparator = (c1, c2) -> {
+            comparisons[0]++;
+            return Integer.compare(c1.getIdNumber(), c2.getIdNumber());
+        };
+
+        new NaturalMergeSortStrategy(countingComparator).sort(clients);
+
+        assertEquals(clients.size() - 1, comparisons[0]);
+    }
+
+    @Test
+    @DisplayName("sort строго убывающей коллекции должен развернуть ее")
+    void testSortReversesDescendingInput() {
+        CustomCollection<Client> clients = new CustomCollection<>();
+        for (int i = 1000; i > 0; i--) {
+            clients.add(client("Клиент", i));
+        }
+
+        new NaturalMergeSortStrategy(Field.ID_NUMBER, true).sort(clients);
+
+        for (int i = 0; i < clients.size(); i++) {
+            assertEquals(i + 1, clients.get(i).getIdNumber());
+        }
+    }
+
+    @Test
+    @DisplayName("sort должен быть стабильным на случайных, почти отсортированных и повторяющихся данных")
+    void testSortIsStableOnVariousInputs() {
+        Random random = new Random(2024);
+        Comparator<Client> idComparator = Comparator.comparingInt(Client::getIdNumber);
+
+        for (int size : new int[]{5, 31, 32, 65, 1000, 20_000}) {
+            CustomCollection<Client> randomClients = new CustomCollection<>();
+            CustomCollection<Client> nearlySorted = new CustomCollection<>();
+            CustomCollection<Client> fewKeys = new CustomCollection<>();
+            for (int i = 0; i < size; i++) {
+                randomClients.add(client("Клиент", random.nextInt(size)));
+                nearlySorted.add(client("Клиент", random.nextInt(20) == 0 ? random.nextInt(size) : i));
+                fewKeys.add(client("Клиент", random.nextInt(3)));
+            }
+
+            assertSameOrderAsListSort(randomClients, idComparator);
+            assertSameOrderAsListSort(nearlySorted, idComparator);
+            assertSameOrderAsListSort(fewKeys, idComparator.reversed());
+        }
+    }
+
+    @Test
+    @DisplayName("sort после дозаписи пачки в отсортированный список должен давать корректный порядок")
+    void testSortAfterAppendingBatch() {
+        Random random = new Random(1);
+        CustomCollection<Client> clients = new CustomCollection<>();
+        for (int i = 0; i < 5000; i++) {
+            clients.add(client("Клиент", i * 2));
+        }
+        for (int i = 0; i < 100; i++) {
+            clients.add(client("Клиент", random.nextInt(10_000)));
+        }
+
+        assertSameOrderAsListSort(clients, new MergeSortDynamicStrategy(Field.ID_NUMBER, true).getComparator());
+    }
+
+    @Test
+    @DisplayName("getStrategyName должен возвращать ожидаемую строку")
+    void testGetStrategyName() {
+        assertEquals("Natural Merge Sort (адаптивная сортировка естественными сериями)",
+                new NaturalMergeSortStrategy().getStrategyName());
+    }
+}
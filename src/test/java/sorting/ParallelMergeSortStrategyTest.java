@@ -0,0 +1,73 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static sorting.TestClients.randomClients;
+
+class ParallelMergeSortStrategyTest {
+
+    @Test
+    @DisplayName("sort с null-коллекцией не должен вызывать исключений")
+    void testSortWithNullCollection() {
+        new ParallelMergeSortStrategy().sort(null);
+        // Тест проходит, если не выброшено исключение
+    }
+
+    @Test
+    @DisplayName("Конструктор с порогом меньше 2 должен выбрасывать IllegalArgumentException")
+    void testConstructorWithInvalidThresholdThrowsException() {
+        Comparator<Client> comparator = Comparator.comparingInt(Client::getIdNumber);
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMergeSortStrategy(comparator, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMergeSortStrategy(null, 16));
+    }
+
+    @Test
+    @DisplayName("Результат должен совпадать с последовательной сортировкой по умолчанию")
+    void testSortMatchesSequentialDefaultStrategy() {
+        CustomCollection<Client> expected = randomClients(20_000, 3);
+        CustomCollection<Client> actual = new CustomCollection<>();
+        actual.addAll(expected);
+
+        new MergeSortDefaultStrategy().sort(expected);
+        new ParallelMergeSortStrategy(new MergeSortDefaultStrategy().getComparator(), 64).sort(actual);
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i), "Расхождение на позиции " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Сортировка должна быть стабильной при параллельном слиянии")
+    void testSortIsStableWithParallelMerge() {
+        for (Field field : Field.values()) {
+            for (boolean ascending : new boolean[]{true, false}) {
+                CustomCollection<Client> expected = randomClients(5_000, field.ordinal());
+                CustomCollection<Client> actual = new CustomCollection<>();
+                actual.addAll(expected);
+
+                MergeSortDynamicStrategy sequential = new MergeSortDynamicStrategy(field, ascending);
+                sequential.sort(expected);
+                new ParallelMergeSortStrategy(sequential.getComparator(), 16).sort(actual);
+
+                for (int i = 0; i < expected.size(); i++) {
+                    assertSame(expected.get(i), actual.get(i), "Расхождение для " + field + " на позиции " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("getStrategyName должен содержать порог")
+    void testGetStrategyName() {
+        ParallelMergeSortStrategy strategy = new ParallelMergeSortStrategy(Comparator.comparingInt(Client::getIdNumber), 100);
+        assertEquals("Parallel Merge Sort (параллельная сортировка слиянием, порог: 100)", strategy.getStrategyName());
+        assertEquals(100, strategy.getThreshold());
+    }
+}
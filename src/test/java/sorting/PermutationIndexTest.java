@@ -0,0 +1,142 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import input.IntCustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static sorting.TestClients.randomClients;
+
+class PermutationIndexTest {
+
+    private static void assertOrderMatchesStableSort(PermutationIndex index, List<Client> all, Field field) {
+        List<Client> expected = new ArrayList<>(all);
+        expected.sort(SortSpec.of(field, true).toComparator());
+
+        List<Client> actual = new ArrayList<>();
+        index.forEachInOrder(field, actual::add);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i), field + ": расхождение на позиции " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Перестановки по каждому полю должны совпадать со стабильной сортировкой и после добавлений")
+    void testPermutationsStayInOrderAfterAppends() {
+        Random random = new Random(21);
+        PermutationIndex index = new PermutationIndex();
+        List<Client> all = new ArrayList<>();
+
+        for (int batch : new int[]{0, 1, 300, 7, 1000}) {
+            CustomCollection<Client> clients = randomClients(batch, 50, random);
+            index.addAll(clients);
+            for (Client client : clients) {
+                all.add(client);
+            }
+            for (Field field : Field.values()) {
+                assertOrderMatchesStableSort(index, all, field);
+            }
+        }
+        assertEquals(all.size(), index.size());
+    }
+
+    @Test
+    @DisplayName("Повторный запрос перестановки не должен ее перестраивать")
+    void testPermutationIsReused() {
+        PermutationIndex index = new PermutationIndex();
+        index.addAll(randomClients(100, 50, 22));
+
+        IntCustomCollection first = index.permutation(Field.NAME);
+        assertSame(first, index.permutation(Field.NAME));
+
+        index.add(new Client.ClientBuilder().name("Ёж Ёжиков").phoneNumber("+7999").idNumber(1).build());
+        IntCustomCollection extended = index.permutation(Field.NAME);
+        assertSame(first, extended);
+        assertEquals(101, extended.size());
+        assertEquals(100, extended.get(0));
+    }
+
+    @Test
+    @DisplayName("copyInOrder должен упорядочить коллекцию и отметить порядок")
+    void testCopyInOrder() {
+        CustomCollection<Client> clients = randomClients(200, 50, 23);
+        PermutationIndex index = new PermutationIndex();
+        index.reset(clients);
+
+        index.copyInOrder(Field.ID_NUMBER, clients);
+
+        for (int i = 1; i < clients.size(); i++) {
+            assertTrue(clients.get(i - 1).getIdNumber() <= clients.get(i).getIdNumber());
+        }
+        assertTrue(clients.isSortedBy(SortSpec.of(Field.ID_NUMBER, true).toComparator()));
+        assertThrows(IllegalArgumentException.class, () -> index.copyInOrder(Field.NAME, new CustomCollection<>()));
+    }
+
+    @Test
+    @DisplayName("Индекс должен считаться устаревшим после любого изменения коллекции, даже без смены размера")
+    void testSyncIsLostOnSameSizeModification() {
+        CustomCollection<Client> clients = randomClients(50, 50, 24);
+        PermutationIndex index = new PermutationIndex();
+        index.reset(clients);
+        assertTrue(index.isSyncedWith(clients));
+        assertFalse(index.isSyncedWith(randomClients(50, 50, 24)));
+
+        clients.set(0, clients.get(1));
+        assertFalse(index.isSyncedWith(clients));
+
+        index.reset(clients);
+        index.copyInOrder(Field.NAME, clients);
+        assertTrue(index.isSyncedWith(clients));
+
+        clients.removeByIndex(0);
+        clients.add(clients.get(0));
+        assertFalse(index.isSyncedWith(clients));
+    }
+
+    @Test
+    @DisplayName("markSynced должен восстанавливать синхронизацию после добавления той же порции")
+    void testMarkSyncedAfterAppend() {
+        CustomCollection<Client> clients = randomClients(20, 50, 25);
+        PermutationIndex index = new PermutationIndex();
+        index.reset(clients);
+
+        CustomCollection<Client> batch = randomClients(5, 50, 26);
+        clients.addAll(batch);
+        assertFalse(index.isSyncedWith(clients));
+
+        index.addAll(batch);
+        index.markSynced(clients);
+        assertTrue(index.isSyncedWith(clients));
+        assertThrows(IllegalArgumentException.class, () -> index.markSynced(batch));
+    }
+
+    @Test
+    @DisplayName("reset по отсортированной коллекции должен сразу давать тождественную перестановку по ее полю")
+    void testResetSeedsIdentityForSortedField() {
+        CustomCollection<Client> clients = randomClients(100, 50, 27);
+        new MergeSortDynamicStrategy(Field.ID_NUMBER, true).sort(clients);
+        clients.markSortedBy(SortSpec.of(Field.ID_NUMBER, true).toComparator());
+
+        PermutationIndex index = new PermutationIndex();
+        index.reset(clients);
+
+        IntCustomCollection permutation = index.permutation(Field.ID_NUMBER);
+        for (int i = 0; i < permutation.size(); i++) {
+            assertEquals(i, permutation.get(i));
+        }
+        List<Client> all = new ArrayList<>();
+        for (Client client : clients) {
+            all.add(client);
+        }
+        assertOrderMatchesStableSort(index, all, Field.NAME);
+    }
+}
@@ -0,0 +1,97 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhoneRadixSortStrategyTest {
+
+    private static CustomCollection<Client> clientsWithPhones(String... phones) {
+        CustomCollection<Client> clients = new CustomCollection<>();
+        for (int i = 0; i < phones.length; i++) {
+            clients.add(new Client.ClientBuilder().name("Клиент").phoneNumber(phones[i]).idNumber(i).build());
+        }
+        return clients;
+    }
+
+    @Test
+    @DisplayName("packPhone должен упаковывать валидный телефон и отклонять остальные")
+    void testPackPhone() {
+        assertEquals(9991234567L, PhoneRadixSortStrategy.packPhone("+79991234567"));
+        assertEquals(0L, PhoneRadixSortStrategy.packPhone("+70000000000"));
+        assertEquals(-1L, PhoneRadixSortStrategy.packPhone("+7111"));
+        assertEquals(-1L, PhoneRadixSortStrategy.packPhone("89991234567"));
+        assertEquals(-1L, PhoneRadixSortStrategy.packPhone("+7999123456a"));
+        assertEquals(-1L, PhoneRadixSortStrategy.packPhone(null));
+    }
+
+    @Test
+    @DisplayName("sort с null-коллекцией не должен вызывать исключений")
+    void testSortWithNullCollection() {
+        new PhoneRadixSortStrategy().sort(null);
+        // Тест проходит, если не выброшено исключение
+    }
+
+    @Test
+    @DisplayName("sort должен сортировать телефоны по возрастанию и по убыванию")
+    void testSortAscendingAndDescending() {
+        CustomCollection<Client> clients = clientsWithPhones("+79990000001", "+70000000000", "+79161234567");
+
+        new PhoneRadixSortStrategy(true).sort(clients);
+        assertEquals("+70000000000", clients.get(0).getPhoneNumber());
+        assertEquals("+79161234567", clients.get(1).getPhoneNumber());
+        assertEquals("+79990000001", clients.get(2).getPhoneNumber());
+
+        new PhoneRadixSortStrategy(false).sort(clients);
+        assertEquals("+79990000001", clients.get(0).getPhoneNumber());
+        assertEquals("+70000000000", clients.get(2).getPhoneNumber());
+    }
+
+    @Test
+    @DisplayName("Результат должен совпадать со стабильной MergeSortDynamicStrategy")
+    void testSortMatchesDynamicStrategy() {
+        Random random = new Random(5);
+        for (boolean ascending : new boolean[]{true, false}) {
+            String[] phones = new String[3000];
+            for (int i = 0; i < phones.length; i++) {
+                // Небольшой диапазон, чтобы были повторяющиеся телефоны
+                phones[i] = String.format("+79%09d", random.nextInt(500) * 1_000_003L % 1_000_000_000L);
+            }
+            CustomCollection<Client> expected = clientsWithPhones(phones);
+            CustomCollection<Client> actual = new CustomCollection<>();
+            actual.addAll(expected);
+
+            new MergeSortDynamicStrategy(Field.PHONE_NUMBER, ascending).sort(expected);
+            new PhoneRadixSortStrategy(ascending).sort(actual);
+
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i), actual.get(i), "Расхождение на позиции " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("sort с телефоном нестандартного формата должен сортировать как строки")
+    void testSortFallsBackForInvalidPhones() {
+        CustomCollection<Client> clients = clientsWithPhones("+7333", "+79991234567", "+7111");
+
+        new PhoneRadixSortStrategy().sort(clients);
+
+        assertEquals("+7111", clients.get(0).getPhoneNumber());
+        assertEquals("+7333", clients.get(1).getPhoneNumber());
+        assertEquals("+79991234567", clients.get(2).getPhoneNumber());
+    }
+
+    @Test
+    @DisplayName("getStrategyName должен указывать направление сортировки")
+    void testGetStrategyName() {
+        assertEquals("Phone Radix Sort (поразрядная сортировка по телефону, по возрастанию)",
+                new PhoneRadixSortStrategy().getStrategyName());
+    }
+}
@@ -0,0 +1,89 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static sorting.TestClients.randomClients;
+import static sorting.TestClients.toList;
+
+class PredicateScopedSorterTest {
+
+    /** Эталон: собрать подходящих, стабильно отсортировать и вернуть на их позиции. */
+    private static List<Client> expectedOrder(CustomCollection<Client> clients, Predicate<Client> predicate,
+                                              Comparator<Client> comparator) {
+        List<Client> result = toList(clients);
+        List<Client> selected = new ArrayList<>();
+        for (Client client : result) {
+            if (predicate.test(client)) {
+                selected.add(client);
+            }
+        }
+        selected.sort(comparator);
+        int next = 0;
+        for (int i = 0; i < result.size(); i++) {
+            if (predicate.test(result.get(i))) {
+                result.set(i, selected.get(next++));
+            }
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("sortMatching с null и пустой коллекцией не должен вызывать исключений")
+    void testSortMatchingWithNullAndEmptyCollection() {
+        PredicateScopedSorter.sortMatching(null, PredicateScopedSorter.EVEN_ID, clients -> fail("Не должен вызываться"));
+        PredicateScopedSorter.sortMatching(new CustomCollection<>(), PredicateScopedSorter.EVEN_ID,
+                clients -> fail("Не должен вызываться"));
+    }
+
+    @Test
+    @DisplayName("sortMatching без подходящих клиентов не должен изменять коллекцию")
+    void testSortMatchingWithoutMatches() {
+        CustomCollection<Client> clients = randomClients(100, 1);
+        List<Client> before = toList(clients);
+
+        PredicateScopedSorter.sortMatching(clients, client -> false, selected -> fail("Не должен вызываться"));
+
+        for (int i = 0; i < before.size(); i++) {
+            assertSame(before.get(i), clients.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("sortMatching должен сортировать только подходящих клиентов на небольшой коллекции")
+    void testSortMatchingSequential() {
+        CustomCollection<Client> clients = randomClients(1000, 2);
+        Predicate<Client> alexeys = client -> client.getName().startsWith("Алексей");
+        Comparator<Client> idComparator = Comparator.comparingInt(Client::getIdNumber);
+        List<Client> expected = expectedOrder(clients, alexeys, idComparator);
+
+        new BottomUpMergeSortStrategy(idComparator).sortMatching(clients, alexeys);
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), clients.get(i), "Расхождение на позиции " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("sortMatching должен давать тот же результат при параллельном сборе на большой коллекции")
+    void testSortMatchingParallel() {
+        CustomCollection<Client> clients = randomClients(PredicateScopedSorter.PARALLEL_THRESHOLD * 2 + 123, 3);
+        List<Client> expected = expectedOrder(clients, PredicateScopedSorter.EVEN_ID,
+                new MergeSortDynamicStrategy(Field.ID_NUMBER, true).getComparator());
+
+        new IdRadixSortStrategy().sortEvenValuesOnly(clients);
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), clients.get(i), "Расхождение на позиции " + i);
+        }
+    }
+}
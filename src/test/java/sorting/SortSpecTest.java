@@ -0,0 +1,152 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static sorting.TestClients.randomClients;
+import static sorting.TestClients.toList;
+
+class SortSpecTest {
+
+    private static Client client(String name, String phone, int id) {
+        return new Client.ClientBuilder().name(name).phoneNumber(phone).idNumber(id).build();
+    }
+
+    @Test
+    @DisplayName("Builder должен отклонять null-поле и пустую спецификацию")
+    void testBuilderValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new SortSpec.Builder().then(null, true));
+        assertThrows(IllegalArgumentException.class, () -> SortSpec.of(null, false));
+        assertThrows(IllegalStateException.class, () -> new SortSpec.Builder().build());
+    }
+
+    @Test
+    @DisplayName("Компаратор одного поля должен совпадать с Comparator.comparing и reversed")
+    void testSingleFieldMatchesBoxedComparators() {
+        List<Client> clients = toList(randomClients(200, 10, 1));
+        Comparator<Client> byIdAscending = Comparator.comparing(Client::getIdNumber);
+        Comparator<Client> byPhoneDescending = Comparator.comparing(Client::getPhoneNumber).reversed();
+
+        Comparator<Client> compiledIdAscending = SortSpec.of(Field.ID_NUMBER, true).toComparator();
+        Comparator<Client> compiledPhoneDescending = SortSpec.of(Field.PHONE_NUMBER, false).toComparator();
+
+        for (Client first : clients) {
+            for (Client second : clients) {
+                assertEquals(Integer.signum(byIdAscending.compare(first, second)),
+                        Integer.signum(compiledIdAscending.compare(first, second)));
+                assertEquals(Integer.signum(byPhoneDescending.compare(first, second)),
+                        Integer.signum(compiledPhoneDescending.compare(first, second)));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Специализированные компараторы должны совпадать с общим циклом по полям")
+    void testSpecializedComparatorsMatchGenericLoop() {
+        List<Client> clients = toList(randomClients(60, 10, 3));
+        clients.add(client("Иван Иванович Петров", "+79001", 1));
+        clients.add(client("Анна Петровна Смирнова", "+79002", 2));
+
+        List<SortSpec> specs = new ArrayList<>();
+        for (Field field : Field.values()) {
+            specs.add(SortSpec.of(field, true));
+            specs.add(SortSpec.of(field, false));
+        }
+        specs.add(MergeSortDefaultStrategy.DEFAULT_ORDER);
+
+        for (SortSpec spec : specs) {
+            Comparator<Client> specialized = spec.toComparator();
+            Comparator<Client> generic = new SortSpec.CompiledComparator(spec);
+            assertFalse(specialized instanceof SortSpec.CompiledComparator, spec.toString());
+            assertEquals(generic, specialized);
+            for (Client first : clients) {
+                for (Client second : clients) {
+                    assertEquals(Integer.signum(generic.compare(first, second)),
+                            Integer.signum(specialized.compare(first, second)), spec.toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Многоключевая спецификация должна сортировать по телефону по убыванию, затем по имени")
+    void testMultiKeyOrder() {
+        SortSpec spec = new SortSpec.Builder()
+                .then(Field.PHONE_NUMBER, false)
+                .then(Field.NAME, true)
+                .build();
+
+        CustomCollection<Client> clients = randomClients(500, 10, 2);
+        List<Client> expected = toList(clients);
+        expected.sort(Comparator.comparing(Client::getPhoneNumber).reversed().thenComparing(Client::getName));
+
+        new MergeSortDynamicStrategy(spec).sort(clients);
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), clients.get(i), "Расхождение на позиции " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Одинаковые спецификации и их компараторы должны быть равны")
+    void testEquality() {
+        SortSpec first = new SortSpec.Builder().then(Field.NAME, true).then(Field.ID_NUMBER, false).build();
+        SortSpec second = new SortSpec.Builder().then(Field.NAME, true).then(Field.ID_NUMBER, false).build();
+        SortSpec other = new SortSpec.Builder().then(Field.NAME, true).then(Field.ID_NUMBER, true).build();
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, other);
+        assertEquals(first.toComparator(), second.toComparator());
+        assertNotEquals(first.toComparator(), other.toComparator());
+        assertEquals(MergeSortDefaultStrategy.DEFAULT_ORDER.toComparator(), new MergeSortDefaultStrategy().getComparator());
+    }
+
+    @Test
+    @DisplayName("toString должен перечислять поля с направлениями")
+    void testToString() {
+        SortSpec spec = new SortSpec.Builder().then(Field.PHONE_NUMBER, false).then(Field.NAME, true).build();
+
+        assertEquals("PHONE_NUMBER по убыванию -> NAME по возрастанию", spec.toString());
+        assertEquals(2, spec.size());
+        assertEquals(Field.NAME, spec.getField(1));
+        assertFalse(spec.isAscending(0));
+    }
+
+    @Test
+    @DisplayName("getStrategyName должен показывать многоключевой порядок")
+    void testDynamicStrategyName() {
+        SortSpec spec = new SortSpec.Builder().then(Field.PHONE_NUMBER, false).then(Field.NAME, true).build();
+
+        assertEquals("Dynamic Merge Sort (Динамическая сортировка по: PHONE_NUMBER по убыванию -> NAME по возрастанию)",
+                new MergeSortDynamicStrategy(spec).getStrategyName());
+        assertThrows(IllegalArgumentException.class, () -> new MergeSortDynamicStrategy((SortSpec) null));
+    }
+
+    @Test
+    @DisplayName("Спецификация по фамилии, затем по имени должна сортировать по словам имени")
+    void testSortByLastNameThenFirstName() {
+        String[] names = {"Петров Иван Ильич", "Иванова Мария", "Петров Алексей", "Иванов Пётр Сергеевич", "Иванова Анна"};
+        CustomCollection<Client> clients = new CustomCollection<>();
+        for (int i = 0; i < names.length; i++) {
+            clients.add(client(names[i], "+7" + i, i));
+        }
+        SortSpec spec = new SortSpec.Builder().then(Field.LAST_NAME, true).then(Field.FIRST_NAME, true).build();
+
+        new MergeSortDynamicStrategy(spec).sort(clients);
+
+        assertEquals("Иванов Пётр Сергеевич", clients.get(0).getName());
+        assertEquals("Иванова Анна", clients.get(1).getName());
+        assertEquals("Иванова Мария", clients.get(2).getName());
+        assertEquals("Петров Алексей", clients.get(3).getName());
+        assertEquals("Петров Иван Ильич", clients.get(4).getName());
+    }
+}
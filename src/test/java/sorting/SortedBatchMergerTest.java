@@ -0,0 +1,81 @@
+package sorting;
+
+import dto.Client;
+import enums.Field;
+import input.CustomCollection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static sorting.TestClients.randomClients;
+import static sorting.TestClients.toCollection;
+import static sorting.TestClients.toList;
+
+class SortedBatchMergerTest {
+
+    @Test
+    @DisplayName("mergeBatch должен давать тот же порядок, что и стабильная сортировка всего списка")
+    void testMergeBatchMatchesFullStableSort() {
+        Random random = new Random(11);
+        Comparator<Client> comparator = SortSpec.of(Field.ID_NUMBER, true).toComparator();
+        int[][] shapes = {{0, 5}, {5, 0}, {1, 1}, {100, 3}, {3, 100}, {500, 500}, {1000, 17}};
+
+        for (int[] shape : shapes) {
+            List<Client> existing = toList(randomClients(shape[0], 50, random));
+            existing.sort(comparator);
+            List<Client> batch = toList(randomClients(shape[1], 50, random));
+
+            List<Client> expected = new ArrayList<>(existing);
+            expected.addAll(batch);
+            expected.sort(comparator);
+
+            CustomCollection<Client> sorted = toCollection(existing);
+            CustomCollection<Client> batchCollection = toCollection(batch);
+            SortedBatchMerger.mergeBatch(sorted, batchCollection, comparator);
+
+            assertEquals(expected.size(), sorted.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i), sorted.get(i), "Расхождение на позиции " + i);
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                assertSame(batch.get(i), batchCollection.get(i), "Порция не должна изменяться");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("mergeBatch не должен сравнивать все элементы списка при добавлении в конец")
+    void testMergeBatchComparisonsScaleWithBatch() {
+        Random random = new Random(12);
+        int[] comparisons = new int[1];
+        Comparator<Client> comparator = (c1, c2) -> {
+            comparisons[0]++;
+            return Integer.compare(c1.getIdNumber(), c2.getIdNumber());
+        };
+
+        List<Client> existing = toList(randomClients(100_000, 1000, random));
+        existing.sort(comparator);
+        CustomCollection<Client> sorted = toCollection(existing);
+        comparisons[0] = 0;
+
+        SortedBatchMerger.mergeBatch(sorted, randomClients(10, 1000, random), comparator);
+
+        assertEquals(100_010, sorted.size());
+        assertTrue(comparisons[0] < 1000, "Сравнений: " + comparisons[0]);
+    }
+
+    @Test
+    @DisplayName("mergeBatch с null-коллекцией или компаратором должен выбрасывать IllegalArgumentException")
+    void testMergeBatchWithNullArgumentsThrowsException() {
+        Comparator<Client> comparator = SortSpec.of(Field.NAME, true).toComparator();
+        assertThrows(IllegalArgumentException.class,
+                () -> SortedBatchMerger.mergeBatch(null, new CustomCollection<>(), comparator));
+        assertThrows(IllegalArgumentException.class,
+                () -> SortedBatchMerger.mergeBatch(new CustomCollection<>(), new CustomCollection<>(), null));
+    }
+}
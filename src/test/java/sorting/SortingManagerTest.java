@@ -1,11 +1,15 @@
 package sorting;
 
 import dto.Client;
+import enums.Field;
 import input.CustomCollection;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static sorting.TestClients.randomClients;
 
 class SortingManagerTest {
 
@@ -145,4 +149,161 @@ class SortingManagerTest {
                 "После setStrategy getStrategy должен возвращать установленную стратегию"
         );
     }
-}
\ No newline at end of file
+
+    private static void assertSortedBy(CustomCollection<Client> clients, SortSpec sortSpec) {
+        Comparator<Client> comparator = sortSpec.toComparator();
+        for (int i = 1; i < clients.size(); i++) {
+            assertTrue(comparator.compare(clients.get(i - 1), clients.get(i)) <= 0, "Нарушен порядок на позиции " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("sortAdaptive не должен сортировать уже упорядоченную коллекцию")
+    void testSortAdaptiveSkipsOrderedCollection() {
+        SortingManager manager = new SortingManager();
+        CustomCollection<Client> clients = randomClients(1000, 1);
+        new MergeSortDynamicStrategy(Field.ID_NUMBER, true).sort(clients);
+
+        SortDecision decision = manager.sortAdaptive(clients, Field.ID_NUMBER, true);
+
+        assertTrue(decision.isSkipped());
+        assertEquals(1, decision.getRuns());
+        assertNull(manager.getCurrentStrategy());
+        assertSame(decision, manager.getLastDecision());
+        assertTrue(decision.toString().contains("без сортировки"));
+    }
+
+    @Test
+    @DisplayName("sortAdaptive должен выбирать стратегию по размеру, упорядоченности и типу ключа")
+    void testSortAdaptiveChoosesStrategy() {
+        SortingManager manager = new SortingManager();
+
+        CustomCollection<Client> small = randomClients(20, 2);
+        assertInstanceOf(InsertionSortStrategy.class, manager.sortAdaptive(small, Field.NAME, true).getStrategy());
+        assertSortedBy(small, SortSpec.of(Field.NAME, true));
+
+        CustomCollection<Client> presorted = randomClients(1000, 3);
+        new MergeSortDynamicStrategy(Field.ID_NUMBER, true).sort(presorted);
+        presorted.set(500, presorted.get(0));
+        assertInstanceOf(NaturalMergeSortStrategy.class, manager.sortAdaptive(presorted, Field.ID_NUMBER, true).getStrategy());
+        assertSortedBy(presorted, SortSpec.of(Field.ID_NUMBER, true));
+
+        CustomCollection<Client> byId = randomClients(1000, 4);
+        assertInstanceOf(IdRadixSortStrategy.class, manager.sortAdaptive(byId, Field.ID_NUMBER, false).getStrategy());
+        assertSortedBy(byId, SortSpec.of(Field.ID_NUMBER, false));
+
+        CustomCollection<Client> byPhone = randomClients(1000, 5);
+        assertInstanceOf(PhoneRadixSortStrategy.class, manager.sortAdaptive(byPhone, Field.PHONE_NUMBER, true).getStrategy());
+        assertSortedBy(byPhone, SortSpec.of(Field.PHONE_NUMBER, true));
+
+        CustomCollection<Client> byName = randomClients(1000, 6);
+        SortDecision decision = manager.sortAdaptive(byName, Field.NAME, true);
+        assertInstanceOf(NameRadixSortStrategy.class, decision.getStrategy());
+        assertEquals(TestClients.NAMES.length, decision.getDistinctKeys());
+        assertSame(decision.getStrategy(), manager.getCurrentStrategy());
+        assertSortedBy(byName, SortSpec.of(Field.NAME, true));
+    }
+
+    @Test
+    @DisplayName("decide должен выбирать параллельную сортировку для большой коллекции при нескольких процессорах")
+    void testDecideChoosesParallelStrategy() {
+        CustomCollection<Client> clients = randomClients(SortingManager.PARALLEL_THRESHOLD, 7);
+        SortSpec sortSpec = new SortSpec.Builder().then(Field.NAME, true).then(Field.ID_NUMBER, true).build();
+
+        assertInstanceOf(ParallelMergeSortStrategy.class, SortingManager.decide(clients, sortSpec, 4, Long.MAX_VALUE).getStrategy());
+        assertInstanceOf(NaturalMergeSortStrategy.class, SortingManager.decide(clients, sortSpec, 1, Long.MAX_VALUE).getStrategy());
+    }
+
+    @Test
+    @DisplayName("decide должен считать строго убывающие участки сериями, как естественное слияние")
+    void testDecideCountsDescendingRuns() {
+        SortSpec sortSpec = SortSpec.of(Field.ID_NUMBER, true);
+        CustomCollection<Client> reversed = new CustomCollection<>();
+        for (int id = 1000; id > 0; id--) {
+            reversed.add(new Client.ClientBuilder().name("Клиент").phoneNumber("+79990000000").idNumber(id).build());
+        }
+
+        SortDecision decision = SortingManager.decide(reversed, sortSpec, 1, Long.MAX_VALUE);
+        assertEquals(1, decision.getRuns());
+        assertFalse(decision.isSkipped(), "Обратный порядок не означает, что коллекция упорядочена");
+        assertInstanceOf(NaturalMergeSortStrategy.class, decision.getStrategy());
+
+        // Чередование возрастающих и убывающих блоков по 100 элементов — 10 серий
+        CustomCollection<Client> sawtooth = new CustomCollection<>();
+        for (int block = 0; block < 10; block++) {
+            for (int i = 0; i < 100; i++) {
+                int offset = block % 2 == 0 ? i : 99 - i;
+                sawtooth.add(new Client.ClientBuilder().name("Клиент").phoneNumber("+79990000000")
+                        .idNumber(block * 100 + offset).build());
+            }
+        }
+        decision = SortingManager.decide(sawtooth, sortSpec, 1, Long.MAX_VALUE);
+        assertEquals(10, decision.getRuns());
+        assertInstanceOf(NaturalMergeSortStrategy.class, decision.getStrategy());
+        decision.getStrategy().sort(sawtooth);
+        assertSortedBy(sawtooth, sortSpec);
+    }
+
+    @Test
+    @DisplayName("decide должен выбирать сортировку на месте, когда памяти мало")
+    void testDecideChoosesInPlaceStrategyWhenMemoryIsTight() {
+        CustomCollection<Client> clients = randomClients(1000, 9);
+        SortSpec sortSpec = SortSpec.of(Field.ID_NUMBER, true);
+
+        SortDecision decision = SortingManager.decide(clients, sortSpec, 1, 1000);
+
+        assertInstanceOf(InPlaceMergeSortStrategy.class, decision.getStrategy());
+        assertInstanceOf(IdRadixSortStrategy.class, SortingManager.decide(clients, sortSpec, 1, Long.MAX_VALUE).getStrategy());
+    }
+
+    @Test
+    @DisplayName("sortAdaptive с null-спецификацией должен выбрасывать IllegalArgumentException")
+    void testSortAdaptiveWithNullSpecThrowsException() {
+        SortingManager manager = new SortingManager();
+        assertThrows(IllegalArgumentException.class, () -> manager.sortAdaptive(new CustomCollection<>(), null));
+        assertTrue(manager.sortAdaptive(null, Field.NAME, true).isSkipped());
+    }
+
+    @Test
+    @DisplayName("Повторная сортировка в том же порядке должна пропускаться")
+    void testRepeatedSortIsNoOp() {
+        int[] sorts = new int[1];
+        SortingManager manager = new SortingManager(new MergeSortDynamicStrategy(Field.NAME, true) {
+            @Override
+            public void sort(CustomCollection<Client> clients) {
+                sorts[0]++;
+                super.sort(clients);
+            }
+        });
+        CustomCollection<Client> clients = randomClients(100, 8);
+
+        assertTrue(manager.sort(clients));
+        assertFalse(manager.sort(clients));
+        assertEquals(1, sorts[0]);
+        assertTrue(clients.isSortedBy(SortSpec.of(Field.NAME, true).toComparator()));
+
+        clients.add(clients.get(0));
+        assertTrue(manager.sort(clients));
+        assertEquals(2, sorts[0]);
+
+        SortDecision decision = manager.sortAdaptive(clients, Field.NAME, true);
+        assertTrue(decision.isSkipped());
+        assertEquals("порядок уже отмечен в коллекции", decision.getReason());
+        assertThrows(IllegalStateException.class, () -> new SortingManager().sort(clients));
+    }
+
+    @Test
+    @DisplayName("Чтение коллекции при выборе, отборе и слиянии не должно сбрасывать отметку о порядке")
+    void testReadersKeepSortedMark() {
+        SortingManager manager = new SortingManager(new MergeSortDynamicStrategy(Field.ID_NUMBER, true));
+        CustomCollection<Client> clients = randomClients(200, 10);
+        Comparator<Client> order = SortSpec.of(Field.ID_NUMBER, true).toComparator();
+        manager.sort(clients);
+
+        SortingManager.decide(clients, SortSpec.of(Field.NAME, true), 1, Long.MAX_VALUE);
+        manager.getCurrentStrategy().sortTopK(clients, 5, order);
+        SortedBatchMerger.mergeBatch(randomClients(50, 11), clients, order);
+
+        assertTrue(clients.isSortedBy(order));
+    }
+}
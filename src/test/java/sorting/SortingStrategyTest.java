@@ -5,6 +5,11 @@ import input.CustomCollection;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class SortingStrategyTest {
@@ -145,4 +150,60 @@ class SortingStrategyTest {
         assertTrue(((TestSortingStrategy) strategy).isSortEvenValuesOnlyCalled(),
                 "После нескольких вызовов sortEvenValuesOnly флаг вызова должен оставаться установленным");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("sortTopK должен возвращать k наименьших клиентов по порядку, не изменяя исходную коллекцию")
+    void testSortTopKReturnsSmallestInOrder() {
+        SortingStrategy strategy = new TestSortingStrategy("Test Strategy");
+        CustomCollection<Client> clients = new CustomCollection<>();
+        int[] ids = {9, 3, 7, 1, 8, 2, 6};
+        for (int id : ids) {
+            clients.add(new Client.ClientBuilder().name("Клиент").phoneNumber("+7111").idNumber(id).build());
+        }
+
+        CustomCollection<Client> top = strategy.sortTopK(clients, 3, Comparator.comparingInt(Client::getIdNumber));
+
+        assertEquals(3, top.size());
+        assertEquals(1, top.get(0).getIdNumber());
+        assertEquals(2, top.get(1).getIdNumber());
+        assertEquals(3, top.get(2).getIdNumber());
+        assertEquals(9, clients.get(0).getIdNumber(), "Исходная коллекция не должна изменяться");
+    }
+
+    @Test
+    @DisplayName("sortTopK должен совпадать с началом стабильной сортировки")
+    void testSortTopKMatchesStableSortPrefix() {
+        SortingStrategy strategy = new TestSortingStrategy("Test Strategy");
+        Random random = new Random(3);
+        CustomCollection<Client> clients = new CustomCollection<>();
+        for (int i = 0; i < 2000; i++) {
+            clients.add(new Client.ClientBuilder().name("Клиент").phoneNumber("+7" + i).idNumber(random.nextInt(30)).build());
+        }
+        List<Client> expected = new ArrayList<>();
+        clients.forEach(expected::add);
+        Comparator<Client> comparator = Comparator.comparingInt(Client::getIdNumber);
+        expected.sort(comparator);
+
+        CustomCollection<Client> top = strategy.sortTopK(clients, 100, comparator);
+
+        for (int i = 0; i < 100; i++) {
+            assertSame(expected.get(i), top.get(i), "Расхождение на позиции " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("sortTopK должен обрабатывать граничные значения k")
+    void testSortTopKBoundaries() {
+        SortingStrategy strategy = new TestSortingStrategy("Test Strategy");
+        Comparator<Client> comparator = Comparator.comparingInt(Client::getIdNumber);
+        CustomCollection<Client> clients = new CustomCollection<>();
+        clients.add(new Client.ClientBuilder().name("Клиент").phoneNumber("+7111").idNumber(2).build());
+        clients.add(new Client.ClientBuilder().name("Клиент").phoneNumber("+7222").idNumber(1).build());
+
+        assertEquals(0, strategy.sortTopK(clients, 0, comparator).size());
+        assertEquals(0, strategy.sortTopK(null, 5, comparator).size());
+        assertEquals(2, strategy.sortTopK(clients, 10, comparator).size());
+        assertEquals(1, strategy.sortTopK(clients, 10, comparator).get(0).getIdNumber());
+        assertThrows(IllegalArgumentException.class, () -> strategy.sortTopK(clients, -1, comparator));
+    }
+}
@@ -0,0 +1,67 @@
+package sorting;
+
+import dto.Client;
+import input.CustomCollection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Общие тестовые данные: воспроизводимые наборы случайных клиентов.
+ *
+ * <p>Имена берутся из короткого списка, а телефоны и ID — из небольших диапазонов,
+ * поэтому в наборах много равных ключей и на них проверяется стабильность сортировок.
+ * Телефоны всегда в формате {@code +7XXXXXXXXXX}.
+ */
+final class TestClients {
+    /** Имена из двух слов; среди них есть начинающееся на «Алексей» и с буквой «Ё». */
+    static final String[] NAMES = {"Иван Петров", "Анна Смирнова", "Алексей Иванов", "Ёлкин Ёж", "Яшин Ян"};
+
+    /** Граница ID по умолчанию. */
+    static final int DEFAULT_ID_BOUND = 1000;
+
+    /** Количество различных телефонов. */
+    private static final int PHONE_BOUND = 100;
+
+    private TestClients() {
+    }
+
+    static CustomCollection<Client> randomClients(int count, long seed) {
+        return randomClients(count, DEFAULT_ID_BOUND, new Random(seed));
+    }
+
+    static CustomCollection<Client> randomClients(int count, int idBound, long seed) {
+        return randomClients(count, idBound, new Random(seed));
+    }
+
+    /**
+     * Создает {@code count} клиентов с ID из {@code [0, idBound)}, продолжая последовательность
+     * переданного генератора, — для нескольких порций из одной последовательности.
+     */
+    static CustomCollection<Client> randomClients(int count, int idBound, Random random) {
+        CustomCollection<Client> clients = new CustomCollection<>(Math.max(count, 1));
+        for (int i = 0; i < count; i++) {
+            clients.add(new Client.ClientBuilder()
+                    .name(NAMES[random.nextInt(NAMES.length)])
+                    .phoneNumber("+7999" + String.format("%07d", random.nextInt(PHONE_BOUND)))
+                    .idNumber(random.nextInt(idBound))
+                    .build());
+        }
+        return clients;
+    }
+
+    static List<Client> toList(CustomCollection<Client> clients) {
+        List<Client> list = new ArrayList<>(clients.size());
+        clients.forEach(list::add);
+        return list;
+    }
+
+    static CustomCollection<Client> toCollection(List<Client> clients) {
+        CustomCollection<Client> collection = new CustomCollection<>(Math.max(clients.size(), 1));
+        for (Client client : clients) {
+            collection.add(client);
+        }
+        return collection;
+    }
+}
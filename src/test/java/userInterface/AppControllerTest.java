@@ -7,8 +7,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import sorting.SortSpec;
 
 import java.io.*;
+import java.util.Comparator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -144,6 +146,73 @@ class AppControllerTest {
                 "Вывод должен содержать количество добавленных Алексеев");
     }
 
+    @Test
+    @DisplayName("Новые клиенты должны вливаться в отсортированный список с сохранением порядка")
+    void testAppendAfterSortingKeepsOrder() {
+        controller.getFullList().add(new Client.ClientBuilder().name("Сергей").phoneNumber("+79993333333").idNumber(500).build());
+        controller.getFullList().add(new Client.ClientBuilder().name("Алексей").phoneNumber("+79994444444").idNumber(7).build());
+        controller.startDynamicSorting(Field.ID_NUMBER);
+
+        controller.startRandomDataStrategy(50);
+
+        CustomCollection<Client> list = controller.getFullList();
+        assertEquals(52, list.size());
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(list.get(i - 1).getIdNumber() <= list.get(i).getIdNumber(),
+                    "Список должен остаться отсортированным по ID");
+        }
+    }
+
+    @Test
+    @DisplayName("Переключение между полями должно каждый раз давать правильный порядок")
+    void testSwitchingSortFields() {
+        controller.startRandomDataStrategy(30);
+        CustomCollection<Client> list = controller.getFullList();
+
+        for (Field field : new Field[]{Field.NAME, Field.ID_NUMBER, Field.PHONE_NUMBER, Field.LAST_NAME, Field.NAME}) {
+            controller.startDynamicSorting(field);
+            Comparator<Client> comparator = SortSpec.of(field, true).toComparator();
+            for (int i = 1; i < list.size(); i++) {
+                assertTrue(comparator.compare(list.get(i - 1), list.get(i)) <= 0,
+                        "Нарушен порядок по " + field + " на позиции " + i);
+            }
+        }
+        assertEquals(30, list.size());
+    }
+
+    @Test
+    @DisplayName("Замена клиента в списке без изменения размера не должна терять клиентов при сортировке")
+    void testSameSizeModificationRebuildsIndex() {
+        controller.startRandomDataStrategy(20);
+        controller.startDynamicSorting(Field.ID_NUMBER);
+        CustomCollection<Client> list = controller.getFullList();
+
+        Client replacement = new Client.ClientBuilder().name("Замена").phoneNumber("+79990000000").idNumber(-1).build();
+        list.set(5, replacement);
+        controller.startDynamicSorting(Field.NAME);
+        controller.startDynamicSorting(Field.ID_NUMBER);
+
+        assertEquals(20, list.size());
+        assertSame(replacement, list.get(0), "Замененный клиент должен остаться в списке");
+    }
+
+    @Test
+    @DisplayName("Устаревший индекс должен приводить к адаптивной сортировке с выводом решения")
+    void testStaleIndexUsesAdaptiveSorting() {
+        controller.startRandomDataStrategy(20);
+        controller.getFullList().set(0, controller.getFullList().get(1));
+
+        controller.startDynamicSorting(Field.PHONE_NUMBER);
+        assertTrue(outputStream.toString().contains("Адаптивная сортировка"),
+                "Решение адаптивной сортировки должно выводиться в журнал");
+
+        outputStream.reset();
+        controller.startDynamicSorting(Field.NAME);
+        controller.startDynamicSorting(Field.PHONE_NUMBER);
+        assertFalse(outputStream.toString().contains("Адаптивная сортировка"),
+                "Переключения без изменений списка должны идти по индексу");
+    }
+
     @AfterEach
     void tearDown() {
         // Восстанавливаем оригинальный System.out после теста